@@ -0,0 +1,410 @@
+/**
+ * Opt-in benchmarks for the problem solutions
+ *
+ * The main() of each problem stays a quick demo; the timing loops, large
+ * inputs and temp-file round trips live here and only run when asked for.
+ *
+ * Usage:
+ * java -cp src/main/java com.dailyproblems.bench.Benchmarks             (list benchmarks)
+ * java -cp src/main/java com.dailyproblems.bench.Benchmarks all         (run every benchmark)
+ * java -cp src/main/java com.dailyproblems.bench.Benchmarks name ...    (run the named ones)
+ *
+ * Every benchmark runs a few rounds so the later ones show JIT-compiled
+ * timings; treat the numbers as rough comparisons, not measurements.
+ */
+package com.dailyproblems.bench;
+
+import com.dailyproblems.easy.TwoNumbersSumToK;
+import com.dailyproblems.easy.TwoSum;
+import com.dailyproblems.hard.ProductOfArrayExceptSelf;
+import com.dailyproblems.hard.ProductOfArrayExceptSelf.ProductExceptSelfIndex;
+import com.dailyproblems.hard.SingleNumberII;
+import com.dailyproblems.hard.SingleNumberII.SpillingAnomalyDetector;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public final class Benchmarks {
+    
+    /**
+     * A single named benchmark
+     */
+    private interface Benchmark {
+        void run() throws IOException;
+    }
+    
+    private static final Map<String, Benchmark> BENCHMARKS = new LinkedHashMap<>();
+    
+    static {
+        BENCHMARKS.put("two-numbers-boxed", Benchmarks::twoNumbersPrimitiveVsBoxed);
+        BENCHMARKS.put("two-numbers-parallel", Benchmarks::twoNumbersParallel);
+        BENCHMARKS.put("two-numbers-external", Benchmarks::twoNumbersExternal);
+        BENCHMARKS.put("two-sum-reused-solver", Benchmarks::twoSumReusedSolver);
+        BENCHMARKS.put("single-number-anomalies", Benchmarks::singleNumberAnomalies);
+        BENCHMARKS.put("single-number-bit-counting", Benchmarks::singleNumberBitCounting);
+        BENCHMARKS.put("single-number-parallel", Benchmarks::singleNumberParallel);
+        BENCHMARKS.put("product-parallel", Benchmarks::productParallel);
+        BENCHMARKS.put("product-index", Benchmarks::productIndex);
+    }
+    
+    private Benchmarks() {
+    }
+    
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.out.println("Available benchmarks (pass names, or \"all\"):");
+            for (String name : BENCHMARKS.keySet()) {
+                System.out.println("  " + name);
+            }
+            return;
+        }
+        
+        Iterable<String> names = args.length == 1 && args[0].equals("all")
+                ? BENCHMARKS.keySet() : Arrays.asList(args);
+        for (String name : names) {
+            Benchmark benchmark = BENCHMARKS.get(name);
+            if (benchmark == null) {
+                throw new IllegalArgumentException("Unknown benchmark: " + name
+                        + " (expected one of " + BENCHMARKS.keySet() + ")");
+            }
+            benchmark.run();
+            System.out.println();
+        }
+    }
+    
+    /**
+     * Times the primitive-set hasSum against the boxed reference on a
+     * worst-case input (no pair exists, so every element is inserted)
+     */
+    private static void twoNumbersPrimitiveVsBoxed() {
+        TwoNumbersSumToK solution = new TwoNumbersSumToK();
+        int n = 2_000_000;
+        int[] nums = new int[n];
+        for (int i = 0; i < n; i++) {
+            nums[i] = 2 * i; // only even numbers, so an odd k never matches
+        }
+        int k = -1;
+        
+        System.out.println("--- Primitive vs Boxed Set (n = " + n + ") ---");
+        for (int round = 1; round <= 3; round++) {
+            long start = System.nanoTime();
+            boolean primitive = solution.hasSum(nums, k);
+            long primitiveNanos = System.nanoTime() - start;
+            
+            start = System.nanoTime();
+            boolean boxed = solution.hasSumBoxed(nums, k);
+            long boxedNanos = System.nanoTime() - start;
+            
+            System.out.printf("Round %d: primitive %d ms (%b), boxed %d ms (%b)%n",
+                    round, primitiveNanos / 1_000_000, primitive, boxedNanos / 1_000_000, boxed);
+        }
+    }
+    
+    /**
+     * Times hasSumParallel against the sequential hasSum on a large input
+     * with no matching pair (the worst case for both)
+     */
+    private static void twoNumbersParallel() {
+        TwoNumbersSumToK solution = new TwoNumbersSumToK();
+        int n = 8_000_000;
+        int[] nums = new int[n];
+        Random random = new Random(42);
+        for (int i = 0; i < n; i++) {
+            nums[i] = random.nextInt(Integer.MAX_VALUE / 2) * 2; // even values only
+        }
+        int k = 1; // odd, so no pair of even numbers matches
+        
+        System.out.println("--- Parallel vs Sequential hasSum (n = " + n
+                + ", parallelism = " + ForkJoinPool.commonPool().getParallelism() + ") ---");
+        for (int round = 1; round <= 3; round++) {
+            long start = System.nanoTime();
+            boolean sequential = solution.hasSum(nums, k);
+            long sequentialNanos = System.nanoTime() - start;
+            
+            start = System.nanoTime();
+            boolean parallel = solution.hasSumParallel(nums, k);
+            long parallelNanos = System.nanoTime() - start;
+            
+            System.out.printf("Round %d: sequential %d ms (%b), parallel %d ms (%b), speedup %.2fx%n",
+                    round, sequentialNanos / 1_000_000, sequential, parallelNanos / 1_000_000, parallel,
+                    (double) sequentialNanos / parallelNanos);
+        }
+    }
+    
+    /**
+     * External-memory hasSum: 200,000 ints written to a temp file, then
+     * sorted and merged under a 64 KB budget
+     */
+    private static void twoNumbersExternal() throws IOException {
+        TwoNumbersSumToK solution = new TwoNumbersSumToK();
+        int n = 200_000;
+        Path dataFile = Files.createTempFile("pair-sum-bench", ".bin");
+        try {
+            ByteBuffer encoded = ByteBuffer.allocate(n * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            Random random = new Random(7);
+            for (int i = 0; i < n; i++) {
+                encoded.putInt(random.nextInt(1_000_000) * 2); // even values only
+            }
+            Files.write(dataFile, encoded.array());
+            
+            System.out.println("--- External hasSum (n = " + n + ", 64 KB budget) ---");
+            for (int round = 1; round <= 3; round++) {
+                long start = System.nanoTime();
+                boolean odd = solution.hasSumExternal(dataFile, ByteOrder.LITTLE_ENDIAN, 1_000_001, 64 * 1024);
+                long oddNanos = System.nanoTime() - start;
+                
+                start = System.nanoTime();
+                boolean even = solution.hasSumExternal(dataFile, ByteOrder.LITTLE_ENDIAN, 1_000_000, 64 * 1024);
+                long evenNanos = System.nanoTime() - start;
+                
+                System.out.printf("Round %d: odd k %d ms (%b), even k %d ms (%b)%n",
+                        round, oddNanos / 1_000_000, odd, evenNanos / 1_000_000, even);
+            }
+        } finally {
+            Files.deleteIfExists(dataFile);
+        }
+    }
+    
+    /**
+     * Times many twoSum calls on short arrays, the case the reusable solver
+     * targets, against the boxed HashMap version
+     */
+    private static void twoSumReusedSolver() {
+        TwoSum solution = new TwoSum();
+        int[] nums = new int[32];
+        for (int i = 0; i < nums.length; i++) {
+            nums[i] = i * 3;
+        }
+        int target = nums[30] + nums[31]; // pair found at the very end
+        int calls = 1_000_000;
+        
+        System.out.println("--- Reused primitive solver vs boxed HashMap (" + calls + " calls) ---");
+        for (int round = 1; round <= 3; round++) {
+            long checksum = 0;
+            long start = System.nanoTime();
+            for (int c = 0; c < calls; c++) {
+                checksum += solution.twoSum(nums, target)[0];
+            }
+            long primitiveNanos = System.nanoTime() - start;
+            
+            start = System.nanoTime();
+            for (int c = 0; c < calls; c++) {
+                checksum += solution.twoSumHashMap(nums, target)[0];
+            }
+            long boxedNanos = System.nanoTime() - start;
+            
+            System.out.printf("Round %d: primitive %d ns/call, boxed %d ns/call (checksum %d)%n",
+                    round, primitiveNanos / calls, boxedNanos / calls, checksum);
+        }
+    }
+    
+    /**
+     * Finds every value whose count breaks the "multiple of 3" rule in 3
+     * million records, in memory and through the spilling detector
+     */
+    private static void singleNumberAnomalies() throws IOException {
+        SingleNumberII solution = new SingleNumberII();
+        // All tripled except 12345; overwriting two records breaks up to four more values
+        int[] records = tripledWithSingle(3_000_000, 13);
+        records[0] = records[1];
+        records[2] = -1;
+        
+        System.out.println("--- Anomaly Detection (n = " + records.length + ") ---");
+        Path file = Files.createTempFile("mod3-records", ".bin");
+        try {
+            ByteBuffer bytes = ByteBuffer.allocate(records.length * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            bytes.asIntBuffer().put(records);
+            Files.write(file, bytes.array());
+            
+            long start = System.nanoTime();
+            int[] inMemory = solution.findNonMultiplesOfThree(records);
+            long inMemoryNanos = System.nanoTime() - start;
+            
+            start = System.nanoTime();
+            SpillingAnomalyDetector detector = new SpillingAnomalyDetector(SpillingAnomalyDetector.MIN_MEMORY_BYTES, file.getParent());
+            int[] spilled = detector.findNonMultiplesOfThree(file, ByteOrder.LITTLE_ENDIAN);
+            long spilledNanos = System.nanoTime() - start;
+            
+            System.out.printf("In memory: %s in %d ms%n", Arrays.toString(inMemory), inMemoryNanos / 1_000_000);
+            System.out.printf("Spilling, 1 MB budget: %s in %d ms%n", Arrays.toString(spilled), spilledNanos / 1_000_000);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+    
+    /**
+     * Compares the 32-pass and single-pass bit counting, then runs the single
+     * pass over the same data written to disk and memory-mapped
+     */
+    private static void singleNumberBitCounting() throws IOException {
+        SingleNumberII solution = new SingleNumberII();
+        int[] nums = tripledWithSingle(3_000_000, 11);
+        
+        System.out.println("--- Bit Counting: 32 passes vs single pass (n = " + nums.length + ") ---");
+        for (int round = 1; round <= 3; round++) {
+            long start = System.nanoTime();
+            int multiPass = solution.singleNumberBitCounting(nums);
+            long multiPassNanos = System.nanoTime() - start;
+            
+            start = System.nanoTime();
+            int singlePass = solution.singleNumberBitCountingSinglePass(nums);
+            long singlePassNanos = System.nanoTime() - start;
+            
+            System.out.printf("Round %d: 32 passes %d ms (%d), single pass %d ms (%d)%n",
+                    round, multiPassNanos / 1_000_000, multiPass, singlePassNanos / 1_000_000, singlePass);
+        }
+        
+        Path file = Files.createTempFile("single-number", ".bin");
+        try {
+            ByteBuffer bytes = ByteBuffer.allocate(nums.length * Integer.BYTES);
+            bytes.asIntBuffer().put(nums);
+            Files.write(file, bytes.array());
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                IntBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).asIntBuffer();
+                long start = System.nanoTime();
+                int result = solution.singleNumberBitCounting(mapped);
+                System.out.printf("Memory-mapped file: %d ms (%d)%n", (System.nanoTime() - start) / 1_000_000, result);
+            }
+            
+            // Same file through the windowed (ones, twos) reduction, 1 MB windows
+            long start = System.nanoTime();
+            int result = solution.singleNumber(file, ByteOrder.BIG_ENDIAN, 1 << 20);
+            System.out.printf("Positional-read windows, parallel: %d ms (%d)%n", (System.nanoTime() - start) / 1_000_000, result);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+    
+    /**
+     * Times singleNumberParallel against the sequential loop on a large input
+     */
+    private static void singleNumberParallel() {
+        SingleNumberII solution = new SingleNumberII();
+        int[] nums = tripledWithSingle(10_000_000, 42);
+        
+        System.out.println("--- Parallel vs Sequential singleNumber (n = " + nums.length
+                + ", parallelism = " + ForkJoinPool.commonPool().getParallelism() + ") ---");
+        for (int round = 1; round <= 3; round++) {
+            long start = System.nanoTime();
+            int sequential = solution.singleNumber(nums);
+            long sequentialNanos = System.nanoTime() - start;
+            
+            start = System.nanoTime();
+            int parallel = solution.singleNumberParallel(nums);
+            long parallelNanos = System.nanoTime() - start;
+            
+            System.out.printf("Round %d: sequential %d ms (%d), parallel %d ms (%d), speedup %.2fx%n",
+                    round, sequentialNanos / 1_000_000, sequential, parallelNanos / 1_000_000, parallel,
+                    (double) sequentialNanos / parallelNanos);
+        }
+    }
+    
+    /**
+     * Times productExceptSelfParallel against the two-pass loop on a large
+     * input with a few zeros mixed in
+     */
+    private static void productParallel() {
+        ProductOfArrayExceptSelf solution = new ProductOfArrayExceptSelf();
+        Random random = new Random(42);
+        int[] nums = new int[10_000_000];
+        for (int i = 0; i < nums.length; i++) {
+            nums[i] = random.nextInt(7) - 3;
+        }
+        
+        System.out.println("--- Parallel vs Two-Pass productExceptSelf (n = " + nums.length
+                + ", parallelism = " + ForkJoinPool.commonPool().getParallelism() + ") ---");
+        for (int round = 1; round <= 3; round++) {
+            long start = System.nanoTime();
+            int[] sequential = solution.productExceptSelf(nums);
+            long sequentialNanos = System.nanoTime() - start;
+            
+            start = System.nanoTime();
+            int[] parallel = solution.productExceptSelfParallel(nums);
+            long parallelNanos = System.nanoTime() - start;
+            
+            System.out.printf("Round %d: two-pass %d ms, parallel %d ms, speedup %.2fx, same output: %b%n",
+                    round, sequentialNanos / 1_000_000, parallelNanos / 1_000_000,
+                    (double) sequentialNanos / parallelNanos, Arrays.equals(sequential, parallel));
+        }
+    }
+    
+    /**
+     * Update-then-query rounds: the updatable index against rerunning
+     * productExceptSelf after every update
+     */
+    private static void productIndex() {
+        ProductOfArrayExceptSelf solution = new ProductOfArrayExceptSelf();
+        Random random = new Random(7);
+        int[] nums = new int[1_000_000];
+        for (int i = 0; i < nums.length; i++) {
+            nums[i] = random.nextInt(9) - 4;
+        }
+        int rounds = 200;
+        
+        long start = System.nanoTime();
+        ProductExceptSelfIndex index = solution.index(nums);
+        long buildNanos = System.nanoTime() - start;
+        
+        int indexSum = 0;
+        start = System.nanoTime();
+        for (int r = 0; r < rounds; r++) {
+            int i = random.nextInt(nums.length);
+            index.update(i, random.nextInt(9) - 4);
+            indexSum += index.query(random.nextInt(nums.length));
+        }
+        long indexNanos = System.nanoTime() - start;
+        
+        // Replay the same updates and queries against the plain array
+        random = new Random(7);
+        for (int i = 0; i < nums.length; i++) {
+            random.nextInt(9);
+        }
+        int rerunSum = 0;
+        start = System.nanoTime();
+        for (int r = 0; r < rounds; r++) {
+            nums[random.nextInt(nums.length)] = random.nextInt(9) - 4;
+            rerunSum += solution.productExceptSelf(nums)[random.nextInt(nums.length)];
+        }
+        long rerunNanos = System.nanoTime() - start;
+        
+        System.out.println("--- Updatable Index vs Rerun (n = " + nums.length + ", " + rounds + " update+query rounds) ---");
+        System.out.printf("Index %d us (+ %d ms build), rerun %d ms, same answers: %b%n",
+                indexNanos / 1_000, buildNanos / 1_000_000, rerunNanos / 1_000_000, indexSum == rerunSum);
+    }
+    
+    /**
+     * Random input for the SingleNumberII benchmarks: about n values, each
+     * tripled, plus the single value 12345
+     */
+    private static int[] tripledWithSingle(int n, long seed) {
+        Random random = new Random(seed);
+        int triples = n / 3;
+        int[] nums = new int[triples * 3 + 1];
+        for (int i = 0; i < triples; i++) {
+            int value = random.nextInt();
+            nums[3 * i] = value;
+            nums[3 * i + 1] = value;
+            nums[3 * i + 2] = value;
+        }
+        nums[nums.length - 1] = 12345;
+        // Shuffle so triples are not adjacent
+        for (int i = nums.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = nums[i];
+            nums[i] = nums[j];
+            nums[j] = tmp;
+        }
+        return nums;
+    }
+}
@@ -19,12 +19,15 @@
  * - Return true if any pair sums to k, false otherwise
  * 
  * Approach:
- * Use a HashSet to store numbers we've seen so far. For each number, 
+ * Use a hash set to store numbers we've seen so far. For each number, 
  * check if its complement (k - current number) exists in the set.
  * If it exists, we found a pair. If not, add current number to the set.
  * This achieves the "one pass" bonus requirement.
  * 
- * 1. Create a HashSet to store visited numbers
+ * The set is a primitive open-addressing table (IntHashSet) rather than a
+ * HashSet<Integer>, so no Integer or HashMap.Node is allocated per element.
+ * 
+ * 1. Create a hash set to store visited numbers
  * 2. Iterate through the array once
  * 3. For each number, calculate complement = k - current number
  * 4. Check if complement exists in the set
@@ -46,11 +49,60 @@
 
 package com.dailyproblems.easy;
 
+import com.dailyproblems.util.LongHashSet;
+import com.dailyproblems.util.PairSumThresholds;
+import com.dailyproblems.util.PrimitiveHashing;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.PriorityQueue;
+import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 
 public class TwoNumbersSumToK {
     
+    /** Read buffer size for the channel-based streaming variants */
+    private static final int STREAM_BUFFER_BYTES = 64 * 1024;
+    
+    /** Elements compared per block in the lane-blocked brute force */
+    private static final int LANES = 8;
+    
+    /** hasSumTwoPointers run-merges inputs with at most this many sorted runs */
+    private static final int NEARLY_SORTED_MAX_RUNS = 64;
+    
+    /** Below this size hasSumParallel just calls the sequential hasSum */
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+    
+    /** How often (in elements) a partition worker checks whether another one already found a pair */
+    private static final int CANCELLATION_CHECK_INTERVAL = 4096;
+    
+    /** Built-in crossover points used by hasSum and the two-argument hasSumAdaptive */
+    private static final PairSumThresholds DEFAULT_THRESHOLDS = PairSumThresholds.defaults();
+    
+    /** Largest |v / epsilon| bucketed by hasSum(double[], ...); 2^62 leaves room for the neighbouring cells */
+    private static final double MAX_CELL_INDEX = 0x1p62;
+    
     /**
      * Checks if any two numbers in the array sum to k (One Pass Solution)
      * @param nums - array of integers
@@ -63,6 +115,52 @@ public class TwoNumbersSumToK {
             return false;
         }
         
+        // Tiny inputs: a branch-light quadratic scan beats building a table
+        if (nums.length < DEFAULT_THRESHOLDS.smallInputThreshold()) {
+            return hasSumBruteForceLanes(nums, k);
+        }
+        return hasSumHashed(nums, k);
+    }
+    
+    /**
+     * The hashing half of hasSum, without the small-input dispatch
+     */
+    private boolean hasSumHashed(int[] nums, int k) {
+        // Primitive set pre-sized for every element, so it never rehashes
+        IntHashSet seen = new IntHashSet(nums.length);
+        
+        // Single pass through the array
+        for (int num : nums) {
+            int complement = k - num;
+            
+            // Check if complement exists in seen numbers
+            if (seen.contains(complement)) {
+                return true; // Found a pair that sums to k
+            }
+            
+            // Add current number to seen set
+            seen.add(num);
+        }
+        
+        // No pair found
+        return false;
+    }
+    
+    /**
+     * Reference implementation of hasSum backed by a boxed HashSet<Integer>.
+     * Kept so the primitive set in hasSum can be benchmarked against it.
+     * @param nums - array of integers
+     * @param k - target sum value
+     * @return boolean - true if any two numbers sum to k
+     * 
+     * Time Complexity: O(n)
+     * Space Complexity: O(n) - one Integer and one HashMap.Node per element
+     */
+    public boolean hasSumBoxed(int[] nums, int k) {
+        if (nums == null || nums.length < 2) {
+            return false;
+        }
+        
         // HashSet to store numbers we've seen
         Set<Integer> seen = new HashSet<>();
         
@@ -83,6 +181,129 @@ public class TwoNumbersSumToK {
         return false;
     }
     
+    /**
+     * 64-bit variant of hasSum (e.g. ids, amounts in minor units)
+     * @param nums - array of longs
+     * @param k - target sum value
+     * @return boolean - true if any two numbers sum to k exactly
+     * 
+     * k - num is only looked up when it does not overflow: if it would, no
+     * long can be the complement, so wrapped values never produce a false match.
+     * 
+     * Time Complexity: O(n)
+     * Space Complexity: O(n) - primitive LongHashSet, no boxing
+     */
+    public boolean hasSum(long[] nums, long k) {
+        if (nums == null || nums.length < 2) {
+            return false;
+        }
+        
+        LongHashSet seen = new LongHashSet(nums.length);
+        for (long num : nums) {
+            long complement = k - num;
+            // Subtraction overflowed iff k and num differ in sign and the result's sign differs from k
+            boolean overflow = ((k ^ num) & (k ^ complement)) < 0;
+            if (!overflow && seen.contains(complement)) {
+                return true;
+            }
+            seen.add(num);
+        }
+        return false;
+    }
+    
+    /**
+     * Floating-point variant: is there a pair with |a + b - k| <= epsilon?
+     * @param nums - array of doubles (NaN values are ignored)
+     * @param k - target sum value
+     * @param epsilon - matching tolerance, positive and finite
+     * @return boolean - true if any two numbers sum to k within epsilon
+     * 
+     * Values are bucketed into epsilon-wide cells floor(v / epsilon), each cell
+     * remembering its smallest and largest value. Any partner w of v lies within
+     * epsilon of c = k - v, plus rounding error, so in the three or four cells
+     * covering c +- 1.5 epsilon; v + w is monotone in w, so testing
+     * |v + w - k| for the min and max of each of those cells decides the question.
+     * 
+     * Cell indexes must stay well inside the long range: (long) Math.floor
+     * saturates past 2^63, which would pile unrelated values into one cell,
+     * and cell + 1 could wrap. The rounding error of k - v and of v + w must
+     * also stay below the 0.5 epsilon margin. When
+     * |k| + max|v| reaches MAX_CELL_INDEX * epsilon, or epsilon is within a few
+     * ulps of it, the input is sorted and checked with two pointers instead.
+     * 
+     * Time Complexity: O(n), or O(n log n) for the sorted fallback
+     * Space Complexity: O(n) - primitive cell map, no boxing
+     */
+    public boolean hasSum(double[] nums, double k, double epsilon) {
+        if (!(epsilon > 0) || Double.isInfinite(epsilon)) {
+            throw new IllegalArgumentException("epsilon must be positive and finite: " + epsilon);
+        }
+        if (nums == null || nums.length < 2) {
+            return false;
+        }
+        
+        double maxMagnitude = 0;
+        for (double num : nums) {
+            if (!Double.isNaN(num)) {
+                maxMagnitude = Math.max(maxMagnitude, Math.abs(num));
+            }
+        }
+        double bound = Math.abs(k) + maxMagnitude;
+        // Negated so that an infinite or NaN bound also takes the fallback
+        if (!(bound / epsilon < MAX_CELL_INDEX) || epsilon < 4 * Math.ulp(bound)) {
+            return hasSumSorted(nums, k, epsilon);
+        }
+        
+        DoubleCellMap cells = new DoubleCellMap(nums.length);
+        for (double num : nums) {
+            if (Double.isNaN(num)) {
+                continue;
+            }
+            double complement = k - num;
+            long first = (long) Math.floor((complement - 1.5 * epsilon) / epsilon);
+            long last = (long) Math.floor((complement + 1.5 * epsilon) / epsilon);
+            for (long cell = first; cell <= last; cell++) {
+                if (cells.hasPartner(cell, num, k, epsilon)) {
+                    return true;
+                }
+            }
+            cells.add((long) Math.floor(num / epsilon), num);
+        }
+        return false;
+    }
+    
+    /**
+     * Sorted two-pointer check for hasSum(double[], double, double) when the
+     * values are too large, relative to epsilon, to be bucketed into cells
+     * @param nums - array of doubles (NaN values are ignored)
+     * @param k - target sum value
+     * @param epsilon - matching tolerance, positive and finite
+     * @return boolean - true if any two numbers satisfy |a + b - k| <= epsilon
+     * 
+     * Rounded addition is monotone, so a sum below k still means the left
+     * pointer must move up and a sum above k that the right one must move down.
+     * 
+     * Time Complexity: O(n log n) - sorting dominates
+     * Space Complexity: O(n) - sorted copy of the input
+     */
+    private static boolean hasSumSorted(double[] nums, double k, double epsilon) {
+        double[] sorted = Arrays.stream(nums).filter(v -> !Double.isNaN(v)).sorted().toArray();
+        int left = 0;
+        int right = sorted.length - 1;
+        while (left < right) {
+            double sum = sorted[left] + sorted[right];
+            if (Math.abs(sum - k) <= epsilon) {
+                return true;
+            }
+            if (sum < k) {
+                left++;
+            } else {
+                right--;
+            }
+        }
+        return false;
+    }
+    
     /**
      * Brute force approach for comparison (less efficient)
      * @param nums - array of integers
@@ -109,30 +330,258 @@ public class TwoNumbersSumToK {
         return false;
     }
     
+    /**
+     * Brute force that compares one broadcast complement against a block of
+     * LANES elements at a time (used by hasSum for small inputs)
+     * @param nums - array of integers
+     * @param k - target sum value
+     * @return boolean - true if any two numbers sum to k
+     * 
+     * Time Complexity: O(n²), with one branch per block instead of per pair
+     * Space Complexity: O(1)
+     */
+    public boolean hasSumBruteForceLanes(int[] nums, int k) {
+        if (nums == null || nums.length < 2) {
+            return false;
+        }
+        
+        for (int i = 0; i < nums.length - 1; i++) {
+            if (containsFrom(nums, i + 1, k - nums[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Checks whether need occurs in nums[from..]. Each block folds LANES
+     * equality tests into one int with straight-line code, which the JIT can
+     * keep in registers or turn into SIMD compares, and branches once.
+     */
+    private static boolean containsFrom(int[] nums, int from, int need) {
+        int j = from;
+        for (; j + LANES <= nums.length; j += LANES) {
+            int hits = 0;
+            for (int lane = 0; lane < LANES; lane++) {
+                hits |= zeroToSignBit(nums[j + lane] ^ need);
+            }
+            if (hits < 0) {
+                return true;
+            }
+        }
+        for (; j < nums.length; j++) {
+            if (nums[j] == need) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Returns a value whose sign bit is set exactly when diff == 0
+     */
+    private static int zeroToSignBit(int diff) {
+        return (diff - 1) & ~diff;
+    }
+    
     /**
      * Alternative approach using sorted array and two pointers
      * @param nums - array of integers
      * @param k - target sum value
      * @return boolean - true if any two numbers sum to k
      * 
-     * Time Complexity: O(n log n) - due to sorting
-     * Space Complexity: O(1) - if sorting in place, O(n) if creating new array
+     * A linear pre-scan looks at how sorted the input already is:
+     * - ascending or descending input is scanned in place (no copy, no sort)
+     * - input made of at most NEARLY_SORTED_MAX_RUNS runs is copied and
+     *   run-merged in O(n log runs)
+     * - anything else is copied and fully sorted
+     * 
+     * Like hasSum, a pair matches when its int sum (which may wrap) equals k.
+     * 
+     * Time Complexity: O(n) if already sorted, otherwise O(n log n) - due to sorting
+     * Space Complexity: O(1) if already sorted, otherwise O(n) for the copy
      */
     public boolean hasSumTwoPointers(int[] nums, int k) {
         if (nums == null || nums.length < 2) {
             return false;
         }
         
-        // Create a copy and sort it
-        int[] sortedNums = nums.clone();
-        java.util.Arrays.sort(sortedNums);
+        int direction = sortedDirection(nums);
+        // Like hasSum, a + b may wrap: the exact sum of two ints lies in
+        // [-2^32, 2^32), so only k and its wrapped twin can wrap to k
+        if (direction > 0) {
+            return hasPairInSorted(nums, k) || hasPairInSorted(nums, wrappedTwin(k));
+        }
+        if (direction < 0) {
+            return hasPairInDescending(nums, k) || hasPairInDescending(nums, wrappedTwin(k));
+        }
+        
+        // Create a sorted copy, merging existing runs when there are few of them
+        int[] sortedNums = mergeRuns(nums, NEARLY_SORTED_MAX_RUNS);
+        if (sortedNums == null) {
+            sortedNums = nums.clone();
+            Arrays.sort(sortedNums);
+        }
         
         // Two pointers approach
+        return hasPairInSorted(sortedNums, k) || hasPairInSorted(sortedNums, wrappedTwin(k));
+    }
+    
+    /**
+     * The only other long sum of two ints that wraps to k: k - 2^32 for
+     * k >= 0, k + 2^32 for negative k
+     */
+    private static long wrappedTwin(int k) {
+        return k >= 0 ? k - (1L << 32) : k + (1L << 32);
+    }
+    
+    /**
+     * Linear pre-scan for sortedness, stopping as soon as the answer is known
+     * @param nums - array of integers
+     * @return int - 1 if non-decreasing, -1 if non-increasing (and not
+     * constant), 0 otherwise
+     */
+    static int sortedDirection(int[] nums) {
+        boolean ascending = true;
+        boolean descending = true;
+        for (int i = 1; i < nums.length && (ascending || descending); i++) {
+            ascending &= nums[i - 1] <= nums[i];
+            descending &= nums[i - 1] >= nums[i];
+        }
+        return ascending ? 1 : descending ? -1 : 0;
+    }
+    
+    /**
+     * Two pointers over an array sorted in descending order, without reversing it
+     */
+    private static boolean hasPairInDescending(int[] sorted, long k) {
+        int left = sorted.length - 1; // smallest value
+        int right = 0;                // largest value
+        // k outside [smallest sum, largest sum] needs no scan
+        if ((long) sorted[left] + sorted[left - 1] > k || (long) sorted[right] + sorted[right + 1] < k) {
+            return false;
+        }
+        while (right < left) {
+            long sum = (long) sorted[left] + sorted[right];
+            if (sum == k) {
+                return true;
+            } else if (sum < k) {
+                left--;
+            } else {
+                right++;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Natural merge sort for nearly sorted input
+     * @param nums - array of integers (not modified)
+     * @param maxRuns - give up if the input has more runs than this
+     * @return int[] - sorted copy, or null if there were more than maxRuns runs
+     * 
+     * Ascending runs are kept as they are and strictly descending runs are
+     * reversed, then neighbouring runs are merged pairwise until one remains.
+     * 
+     * Time Complexity: O(n log runs)
+     * Space Complexity: O(n) - the copy plus one merge buffer, both only
+     * allocated once the input is known to have few enough runs
+     */
+    static int[] mergeRuns(int[] nums, int maxRuns) {
+        int n = nums.length;
+        int[] runStarts = new int[maxRuns + 1];
+        boolean[] descending = new boolean[maxRuns];
+        int runs = 0;
+        
+        // Find the runs on the input itself, so giving up costs no copy
+        int start = 0;
+        while (start < n) {
+            if (runs == maxRuns) {
+                return null; // too many runs: a general sort is the better choice
+            }
+            int end = start + 1;
+            boolean down = end < n && nums[end] < nums[start];
+            if (down) {
+                while (end < n && nums[end] < nums[end - 1]) {
+                    end++;
+                }
+            } else {
+                while (end < n && nums[end] >= nums[end - 1]) {
+                    end++;
+                }
+            }
+            descending[runs] = down;
+            runStarts[runs++] = start;
+            start = end;
+        }
+        runStarts[runs] = n;
+        
+        int[] src = nums.clone();
+        for (int r = 0; r < runs; r++) {
+            if (descending[r]) {
+                reverse(src, runStarts[r], runStarts[r + 1]);
+            }
+        }
+        int[] dst = new int[n];
+        while (runs > 1) {
+            int merged = 0;
+            for (int r = 0; r < runs; r += 2) {
+                int from = runStarts[r];
+                int mid = runStarts[Math.min(r + 1, runs)];
+                int to = runStarts[Math.min(r + 2, runs)];
+                merge(src, from, mid, to, dst);
+                runStarts[merged++] = from;
+            }
+            runStarts[merged] = n;
+            runs = merged;
+            int[] swap = src;
+            src = dst;
+            dst = swap;
+        }
+        return src;
+    }
+    
+    private static void merge(int[] src, int from, int mid, int to, int[] dst) {
+        int i = from;
+        int j = mid;
+        for (int out = from; out < to; out++) {
+            if (j >= to || (i < mid && src[i] <= src[j])) {
+                dst[out] = src[i++];
+            } else {
+                dst[out] = src[j++];
+            }
+        }
+    }
+    
+    private static void reverse(int[] a, int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            int tmp = a[i];
+            a[i] = a[j];
+            a[j] = tmp;
+        }
+    }
+    
+    /**
+     * Two-pointer kernel over an ascending array with at least two elements
+     * @param sorted - array sorted ascending
+     * @param k - exact target sum (the caller also tries the wrapped twin)
+     * @return boolean - true if two distinct positions sum to k
+     * 
+     * Sums are computed in long. A k outside [smallest sum, largest sum]
+     * is rejected without a scan, so the twin costs O(1) on most inputs.
+     * 
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     */
+    private static boolean hasPairInSorted(int[] sorted, long k) {
         int left = 0;
-        int right = sortedNums.length - 1;
+        int right = sorted.length - 1;
+        if ((long) sorted[left] + sorted[left + 1] > k || (long) sorted[right - 1] + sorted[right] < k) {
+            return false;
+        }
         
         while (left < right) {
-            int sum = sortedNums[left] + sortedNums[right];
+            long sum = (long) sorted[left] + sorted[right];
             
             if (sum == k) {
                 return true;
@@ -147,46 +596,1473 @@ public class TwoNumbersSumToK {
     }
     
     /**
-     * Test cases and example usage
+     * Strategies the adaptive front end can choose between
      */
-    public static void main(String[] args) {
-        TwoNumbersSumToK solution = new TwoNumbersSumToK();
+    public enum Strategy {
+        /** Quadratic lane-blocked scan, best for tiny inputs */
+        BRUTE_FORCE,
+        /** Two pointers directly on input that is already sorted (either direction) */
+        TWO_POINTERS_SORTED,
+        /** Direct-addressed bitmap over [min, max], best for dense value ranges */
+        BITMAP,
+        /** One-pass primitive hash set, the general-purpose choice */
+        HASH
+    }
+    
+    /**
+     * Adaptive front end: inspects the input and runs the fastest strategy,
+     * using the built-in default thresholds
+     * @param nums - array of integers (not modified)
+     * @param k - target sum value
+     * @return boolean - true if any two numbers sum to k
+     */
+    public boolean hasSumAdaptive(int[] nums, int k) {
+        return hasSumAdaptive(nums, k, DEFAULT_THRESHOLDS);
+    }
+    
+    /**
+     * Adaptive front end with explicit thresholds
+     * @param nums - array of integers (not modified)
+     * @param k - target sum value
+     * @param thresholds - crossover points between strategies
+     * @return boolean - true if any two numbers sum to k (int sums wrap, as in hasSum)
+     * 
+     * Time Complexity: O(n) profiling scan plus the chosen strategy
+     */
+    public boolean hasSumAdaptive(int[] nums, int k, PairSumThresholds thresholds) {
+        if (nums == null || nums.length < 2) {
+            return false;
+        }
         
-        // Test case 1: Given example
-        int[] nums1 = {10, 15, 3, 7};
-        int k1 = 17;
-        boolean result1 = solution.hasSum(nums1, k1);
-        System.out.println("Test 1: " + result1); // Expected: true (10 + 7 = 17)
+        StrategyChoice choice = chooseStrategy(nums, thresholds);
+        switch (choice.strategy()) {
+            case BRUTE_FORCE:
+                return hasSumBruteForceLanes(nums, k);
+            case TWO_POINTERS_SORTED:
+                return hasSumTwoPointers(nums, k); // sorted input is scanned in place
+            case BITMAP:
+                return hasSumBitmap(nums, k, choice.min(), choice.max()); // range from the profiling pass
+            default:
+                return hasSumHashed(nums, k);
+        }
+    }
+    
+    /**
+     * A chosen strategy together with the value range seen while choosing it,
+     * so the bitmap can be sized without another pass over the input
+     */
+    public static final class StrategyChoice {
+        private final Strategy strategy;
+        private final int min;
+        private final int max;
         
-        // Test case 2: No valid pair
-        int[] nums2 = {1, 2, 3, 4};
-        int k2 = 10;
-        boolean result2 = solution.hasSum(nums2, k2);
-        System.out.println("Test 2: " + result2); // Expected: false
+        StrategyChoice(Strategy strategy, int min, int max) {
+            this.strategy = strategy;
+            this.min = min;
+            this.max = max;
+        }
         
-        // Test case 3: With negative numbers
-        int[] nums3 = {-1, -2, -3, 4, 5};
-        int k3 = 2;
-        boolean result3 = solution.hasSum(nums3, k3);
-        System.out.println("Test 3: " + result3); // Expected: true (-3 + 5 = 2)
+        public Strategy strategy() {
+            return strategy;
+        }
         
-        // Test case 4: Same number twice (duplicates)
-        int[] nums4 = {3, 3, 4, 5};
-        int k4 = 6;
-        boolean result4 = solution.hasSum(nums4, k4);
-        System.out.println("Test 4: " + result4); // Expected: true (3 + 3 = 6)
+        /**
+         * Smallest input value (only profiled when the strategy is not BRUTE_FORCE)
+         */
+        public int min() {
+            return min;
+        }
         
-        // Test case 5: Single element array
-        int[] nums5 = {5};
-        int k5 = 10;
-        boolean result5 = solution.hasSum(nums5, k5);
-        System.out.println("Test 5: " + result5); // Expected: false
+        /**
+         * Largest input value (only profiled when the strategy is not BRUTE_FORCE)
+         */
+        public int max() {
+            return max;
+        }
         
-        // Test case 6: Empty array
-        int[] nums6 = {};
-        int k6 = 5;
-        boolean result6 = solution.hasSum(nums6, k6);
-        System.out.println("Test 6: " + result6); // Expected: false
+        @Override
+        public String toString() {
+            return strategy == Strategy.BRUTE_FORCE ? strategy.name() : strategy + " [" + min + ", " + max + "]";
+        }
+    }
+    
+    /**
+     * Picks a strategy from input size, value range and sortedness
+     * @param nums - array of integers with at least one element
+     * @param thresholds - crossover points between strategies
+     * @return StrategyChoice - the strategy expected to be fastest, with the profiled value range
+     */
+    public StrategyChoice chooseStrategy(int[] nums, PairSumThresholds thresholds) {
+        if (nums.length < thresholds.smallInputThreshold()) {
+            return new StrategyChoice(Strategy.BRUTE_FORCE, 0, 0);
+        }
+        
+        // One profiling pass: value range and whether the input is sorted either way
+        int min = nums[0];
+        int max = nums[0];
+        boolean ascending = true;
+        boolean descending = true;
+        for (int i = 1; i < nums.length; i++) {
+            int num = nums[i];
+            ascending &= nums[i - 1] <= num;
+            descending &= nums[i - 1] >= num;
+            min = Math.min(min, num);
+            max = Math.max(max, num);
+        }
+        
+        Strategy strategy;
+        long range = (long) max - min + 1;
+        if (ascending || descending) {
+            strategy = Strategy.TWO_POINTERS_SORTED;
+        } else if (range <= thresholds.bitmapMaxRange()
+                && range <= (long) nums.length * thresholds.bitmapMaxBitsPerElement()) {
+            strategy = Strategy.BITMAP;
+        } else {
+            strategy = Strategy.HASH;
+        }
+        return new StrategyChoice(strategy, min, max);
+    }
+    
+    /**
+     * One-pass check with membership in a bitmap over [min, max]
+     */
+    private boolean hasSumBitmap(int[] nums, int k, int min, int max) {
+        IntBitmap seen = new IntBitmap(min, max);
+        for (int num : nums) {
+            if (seen.contains(k - num)) {
+                return true;
+            }
+            seen.add(num);
+        }
+        return false;
+    }
+    
+    private static int min(int[] nums) {
+        int min = nums[0];
+        for (int num : nums) {
+            min = Math.min(min, num);
+        }
+        return min;
+    }
+    
+    private static int max(int[] nums) {
+        int max = nums[0];
+        for (int num : nums) {
+            max = Math.max(max, num);
+        }
+        return max;
+    }
+    
+    /**
+     * Parallel version of hasSum for very large arrays, using the common pool
+     * @param nums - array of integers (not modified)
+     * @param k - target sum value
+     * @return boolean - true if any two numbers sum to k
+     */
+    public boolean hasSumParallel(int[] nums, int k) {
+        return hasSumParallel(nums, k, ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * Parallel version of hasSum on a caller-supplied fork-join pool
+     * @param nums - array of integers (not modified)
+     * @param k - target sum value
+     * @param pool - pool that runs the workers
+     * @return boolean - true if any two numbers sum to k
+     * 
+     * Algorithm:
+     * 1. Key every value by min(v, k - v). A value and its complement get the
+     *    same key, so hashing the key into P partitions puts every candidate
+     *    pair in the same partition.
+     * 2. Chunks of the array are histogrammed by partition in parallel, the
+     *    histograms are turned into write offsets, and the chunks scatter
+     *    their values into one partitioned buffer, again in parallel.
+     * 3. Each partition runs the sequential one-pass check with its own
+     *    IntHashSet. Partitions are independent, so the sets need no locking.
+     *    The first worker to find a pair raises a shared flag, and all other
+     *    workers stop at their next check.
+     * 
+     * Time Complexity: O(n / cores) expected, plus fork-join overhead
+     * Space Complexity: O(n) - partitioned copy plus per-partition sets
+     */
+    public boolean hasSumParallel(int[] nums, int k, ForkJoinPool pool) {
+        if (nums == null || nums.length < PARALLEL_THRESHOLD || pool.getParallelism() == 1) {
+            return hasSum(nums, k);
+        }
+        
+        int n = nums.length;
+        int partitionBits = 32 - Integer.numberOfLeadingZeros(pool.getParallelism() * 4 - 1);
+        int partitions = 1 << partitionBits;
+        int chunks = pool.getParallelism() * 4;
+        int chunkSize = (n + chunks - 1) / chunks;
+        
+        // Phase 1: per-chunk histograms of partition sizes
+        int[][] histograms = new int[chunks][partitions];
+        pool.invoke(new RangeTask(0, chunks, chunk -> {
+            int[] histogram = histograms[chunk];
+            int end = Math.min(n, (chunk + 1) * chunkSize);
+            for (int i = chunk * chunkSize; i < end; i++) {
+                histogram[partitionOf(nums[i], k, partitionBits)]++;
+            }
+        }));
+        
+        // Turn histograms into write offsets: partition-major, then chunk order
+        int[] partitionStart = new int[partitions + 1];
+        int offset = 0;
+        for (int p = 0; p < partitions; p++) {
+            partitionStart[p] = offset;
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                int count = histograms[chunk][p];
+                histograms[chunk][p] = offset;
+                offset += count;
+            }
+        }
+        partitionStart[partitions] = n;
+        
+        // Phase 2: scatter each chunk into its reserved slices
+        int[] partitioned = new int[n];
+        pool.invoke(new RangeTask(0, chunks, chunk -> {
+            int[] writeAt = histograms[chunk];
+            int end = Math.min(n, (chunk + 1) * chunkSize);
+            for (int i = chunk * chunkSize; i < end; i++) {
+                partitioned[writeAt[partitionOf(nums[i], k, partitionBits)]++] = nums[i];
+            }
+        }));
+        
+        // Phase 3: independent one-pass checks per partition with early exit
+        AtomicBoolean found = new AtomicBoolean();
+        pool.invoke(new RangeTask(0, partitions, p -> {
+            int from = partitionStart[p];
+            int to = partitionStart[p + 1];
+            IntHashSet seen = new IntHashSet(to - from);
+            for (int i = from; i < to; i++) {
+                if ((i - from) % CANCELLATION_CHECK_INTERVAL == 0 && found.get()) {
+                    return;
+                }
+                int num = partitioned[i];
+                if (seen.contains(k - num)) {
+                    found.set(true);
+                    return;
+                }
+                seen.add(num);
+            }
+        }));
+        return found.get();
+    }
+    
+    /**
+     * Partition of a value, chosen so that v and k - v always agree
+     */
+    private static int partitionOf(int value, int k, int partitionBits) {
+        int key = Math.min(value, k - value);
+        return (key * 0x85EBCA6B) >>> (32 - partitionBits);
+    }
+    
+    /**
+     * Fork-join task that runs an action for every index in [from, to),
+     * splitting the range in half until single indices remain
+     */
+    private static final class RangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        
+        private final int from;
+        private final int to;
+        private final IntConsumer action;
+        
+        RangeTask(int from, int to, IntConsumer action) {
+            this.from = from;
+            this.to = to;
+            this.action = action;
+        }
+        
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                action.accept(from);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RangeTask(from, mid, action), new RangeTask(mid, to, action));
+        }
+    }
+    
+    /**
+     * Streaming variant: checks values as they arrive and stops pulling from
+     * the iterator as soon as a pair is found
+     * @param values - source of integers, consumed at most once
+     * @param k - target sum value
+     * @return boolean - true if any two numbers sum to k
+     * 
+     * Time Complexity: O(n) for the n values consumed
+     * Space Complexity: O(n) - growable primitive hash set
+     */
+    public boolean hasSum(PrimitiveIterator.OfInt values, int k) {
+        return hasSum(values, k, new IntHashSet(16));
+    }
+    
+    /**
+     * Streaming variant for values known to lie in [minValue, maxValue].
+     * Membership is tracked in a bitmap of (maxValue - minValue + 1) bits,
+     * which beats a hash set once the range is dense.
+     * @param values - source of integers, consumed at most once
+     * @param k - target sum value
+     * @param minValue - smallest value the source may produce
+     * @param maxValue - largest value the source may produce
+     * @return boolean - true if any two numbers sum to k
+     * @throws IllegalArgumentException if a value falls outside the declared range
+     * 
+     * Space Complexity: O(maxValue - minValue) bits
+     */
+    public boolean hasSum(PrimitiveIterator.OfInt values, int k, int minValue, int maxValue) {
+        return hasSum(values, k, new IntBitmap(minValue, maxValue));
+    }
+    
+    /**
+     * Streaming variant over an IntStream; the stream is consumed lazily, so
+     * upstream stages stop producing once a pair is found
+     * @param values - sequential stream of integers
+     * @param k - target sum value
+     * @return boolean - true if any two numbers sum to k
+     */
+    public boolean hasSum(IntStream values, int k) {
+        return hasSum(values.iterator(), k);
+    }
+    
+    /**
+     * Streaming variant over binary 32-bit ints read from a channel (file,
+     * socket, pipe). No further read is issued once a pair is found; at most
+     * one buffer of bytes past the matching element has been consumed.
+     * @param channel - source of binary ints, read until a pair or end of stream
+     * @param order - byte order of the encoded ints
+     * @param k - target sum value
+     * @return boolean - true if any two numbers sum to k
+     * @throws IOException if reading fails or the stream ends mid-int
+     */
+    public boolean hasSum(ReadableByteChannel channel, ByteOrder order, int k) throws IOException {
+        return hasSum(channel, order, k, new IntHashSet(16));
+    }
+    
+    /**
+     * Channel variant for values known to lie in [minValue, maxValue],
+     * tracked in a bitmap instead of a hash set
+     * @param channel - source of binary ints, read until a pair or end of stream
+     * @param order - byte order of the encoded ints
+     * @param k - target sum value
+     * @param minValue - smallest value the channel may produce
+     * @param maxValue - largest value the channel may produce
+     * @return boolean - true if any two numbers sum to k
+     * @throws IOException if reading fails or the stream ends mid-int
+     */
+    public boolean hasSum(ReadableByteChannel channel, ByteOrder order, int k,
+                          int minValue, int maxValue) throws IOException {
+        return hasSum(channel, order, k, new IntBitmap(minValue, maxValue));
+    }
+    
+    private boolean hasSum(PrimitiveIterator.OfInt values, int k, IntMembership seen) {
+        while (values.hasNext()) {
+            int num = values.nextInt();
+            if (seen.contains(k - num)) {
+                return true;
+            }
+            seen.add(num);
+        }
+        return false;
+    }
+    
+    private boolean hasSum(ReadableByteChannel channel, ByteOrder order, int k,
+                           IntMembership seen) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(STREAM_BUFFER_BYTES).order(order);
+        while (channel.read(buffer) >= 0) {
+            buffer.flip();
+            while (buffer.remaining() >= Integer.BYTES) {
+                int num = buffer.getInt();
+                if (seen.contains(k - num)) {
+                    return true;
+                }
+                seen.add(num);
+            }
+            buffer.compact(); // keep a partial int for the next read
+        }
+        if (buffer.position() != 0) {
+            throw new EOFException("Stream ended in the middle of an int");
+        }
+        return false;
+    }
+    
+    /**
+     * External-memory variant for binary int files larger than the heap
+     * @param file - file of 32-bit ints
+     * @param order - byte order of the ints in the file
+     * @param k - target sum value
+     * @param bufferBytes - memory budget for sorting, merging and scanning
+     * @return boolean - true if any two numbers in the file sum to k
+     * @throws IOException if the file cannot be read or temporary runs cannot be written
+     * 
+     * Temporary run files go to the default temporary directory; use
+     * ExternalPairSum directly to choose another one. Unlike hasSum, sums
+     * are exact: a pair whose int sum would only wrap to k does not count.
+     * 
+     * Time Complexity: O(n log n) CPU, O(n log_F(runs)) I/O for merge fan-in F
+     * Space Complexity: O(bufferBytes) memory, O(n) temporary disk
+     */
+    public boolean hasSumExternal(Path file, ByteOrder order, int k, long bufferBytes) throws IOException {
+        Path tempDir = Paths.get(System.getProperty("java.io.tmpdir"));
+        return new ExternalPairSum(bufferBytes, tempDir).hasSum(file, order, k);
+    }
+    
+    /**
+     * Two-pointer pair-sum over a file that does not fit in memory.
+     * 
+     * 1. Read the file in chunks that fit the budget, sort each chunk and
+     *    write it to a temporary run file.
+     * 2. k-way merge the runs (several passes if there are more runs than
+     *    the budget allows open at once) into one sorted file. Each group of
+     *    runs is deleted as soon as it has been merged, so the temporary
+     *    files never hold much more than two copies of the data.
+     * 3. Run the usual two-pointer scan over the sorted file with a forward
+     *    cursor and a backward cursor, each reading its own window.
+     * 
+     * Heap use in every phase stays within about bufferBytes, including the
+     * two scan windows. Temporary files are written in native byte order and
+     * deleted by the end of the call.
+     */
+    public static final class ExternalPairSum {
+        public static final long MIN_BUFFER_BYTES = 64 * 1024;
+        
+        /** Smallest read buffer given to one run while merging */
+        private static final int MIN_BLOCK_BYTES = 4096;
+        
+        private final long bufferBytes;
+        private final Path tempDir;
+        
+        /**
+         * @param bufferBytes - memory budget, at least MIN_BUFFER_BYTES
+         * @param tempDir - directory for temporary run files
+         */
+        public ExternalPairSum(long bufferBytes, Path tempDir) {
+            if (bufferBytes < MIN_BUFFER_BYTES) {
+                throw new IllegalArgumentException("Buffer budget must be at least " + MIN_BUFFER_BYTES + " bytes");
+            }
+            this.bufferBytes = bufferBytes;
+            this.tempDir = tempDir;
+        }
+        
+        /**
+         * @param file - file of 32-bit ints
+         * @param order - byte order of the ints in the file
+         * @param k - target sum value
+         * @return boolean - true if any two numbers in the file sum to k
+         * @throws IOException if reading or writing fails, or the file length is not a multiple of 4
+         */
+        public boolean hasSum(Path file, ByteOrder order, long k) throws IOException {
+            List<Path> temporaries = new ArrayList<>();
+            try {
+                List<Path> runs = new ArrayList<>();
+                long count = writeSortedRuns(file, order, runs, temporaries);
+                if (count < 2) {
+                    return false;
+                }
+                Path sorted = mergeAll(runs, temporaries);
+                return scan(sorted, count, k);
+            } finally {
+                for (Path temporary : temporaries) {
+                    Files.deleteIfExists(temporary);
+                }
+            }
+        }
+        
+        /**
+         * Phase 1: sorted runs of at most budget-sized chunks
+         * @return long - number of ints in the file
+         */
+        private long writeSortedRuns(Path file, ByteOrder order, List<Path> runs,
+                                     List<Path> temporaries) throws IOException {
+            long size = Files.size(file);
+            if (size % Integer.BYTES != 0) {
+                throw new IOException(file + " does not hold a whole number of ints (" + size + " bytes)");
+            }
+            long totalInts = size / Integer.BYTES;
+            if (totalInts == 0) {
+                return 0;
+            }
+            
+            int ioBytes = (int) Math.min(64 * 1024, bufferBytes / 8) & ~(Integer.BYTES - 1);
+            long chunkBudget = (bufferBytes - 2L * ioBytes) / Integer.BYTES;
+            int[] chunk = new int[(int) Math.min(Math.min(chunkBudget, totalInts), Integer.MAX_VALUE - 8)];
+            ByteBuffer io = ByteBuffer.allocate(ioBytes).order(order);
+            
+            int filled = 0;
+            try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+                while (true) {
+                    int read = in.read(io);
+                    io.flip();
+                    while (io.remaining() >= Integer.BYTES) {
+                        chunk[filled++] = io.getInt();
+                        if (filled == chunk.length) {
+                            runs.add(writeRun(chunk, filled, ioBytes, temporaries));
+                            filled = 0;
+                        }
+                    }
+                    io.compact();
+                    if (read < 0) {
+                        break;
+                    }
+                }
+            }
+            if (filled > 0) {
+                runs.add(writeRun(chunk, filled, ioBytes, temporaries));
+            }
+            return totalInts;
+        }
+        
+        private Path writeRun(int[] chunk, int length, int ioBytes, List<Path> temporaries) throws IOException {
+            Arrays.sort(chunk, 0, length);
+            Path run = Files.createTempFile(tempDir, "pair-sum-run", ".bin");
+            temporaries.add(run);
+            try (RunWriter writer = new RunWriter(run, ioBytes)) {
+                for (int i = 0; i < length; i++) {
+                    writer.write(chunk[i]);
+                }
+            }
+            return run;
+        }
+        
+        /**
+         * Phase 2: merge passes with a fan-in the budget can hold
+         */
+        private Path mergeAll(List<Path> runs, List<Path> temporaries) throws IOException {
+            int fanIn = (int) Math.max(2, Math.min(1024, bufferBytes / MIN_BLOCK_BYTES - 1));
+            int blockBytes = (int) Math.min(1 << 20, bufferBytes / (fanIn + 1)) & ~(Integer.BYTES - 1);
+            
+            while (runs.size() > 1) {
+                List<Path> merged = new ArrayList<>();
+                for (int from = 0; from < runs.size(); from += fanIn) {
+                    List<Path> group = runs.subList(from, Math.min(runs.size(), from + fanIn));
+                    if (group.size() == 1) {
+                        merged.add(group.get(0));
+                        continue;
+                    }
+                    merged.add(merge(group, blockBytes, temporaries));
+                    // The group is fully consumed: free its disk space before the next merge
+                    for (Path input : group) {
+                        Files.deleteIfExists(input);
+                        temporaries.remove(input);
+                    }
+                }
+                runs = merged;
+            }
+            return runs.get(0);
+        }
+        
+        private Path merge(List<Path> inputs, int blockBytes, List<Path> temporaries) throws IOException {
+            Path output = Files.createTempFile(tempDir, "pair-sum-merge", ".bin");
+            temporaries.add(output);
+            
+            PriorityQueue<RunReader> heads = new PriorityQueue<>(inputs.size(), Comparator.comparingInt(r -> r.head));
+            List<RunReader> readers = new ArrayList<>();
+            try (RunWriter writer = new RunWriter(output, blockBytes)) {
+                for (Path input : inputs) {
+                    RunReader reader = new RunReader(input, blockBytes);
+                    readers.add(reader);
+                    if (reader.advance()) {
+                        heads.add(reader);
+                    }
+                }
+                while (!heads.isEmpty()) {
+                    RunReader smallest = heads.poll();
+                    writer.write(smallest.head);
+                    if (smallest.advance()) {
+                        heads.add(smallest);
+                    }
+                }
+            } finally {
+                for (RunReader reader : readers) {
+                    reader.close();
+                }
+            }
+            return output;
+        }
+        
+        /**
+         * Phase 3: two pointers over the sorted file
+         */
+        private boolean scan(Path sorted, long count, long k) throws IOException {
+            int windowInts = (int) Math.min(1 << 28, bufferBytes / 2 / Integer.BYTES);
+            try (FileChannel channel = FileChannel.open(sorted, StandardOpenOption.READ)) {
+                WindowCursor low = new WindowCursor(channel, count, windowInts, true);
+                WindowCursor high = new WindowCursor(channel, count, windowInts, false);
+                long left = 0;
+                long right = count - 1;
+                while (left < right) {
+                    long sum = (long) low.get(left) + high.get(right);
+                    if (sum == k) {
+                        return true;
+                    } else if (sum < k) {
+                        left++;
+                    } else {
+                        right--;
+                    }
+                }
+                return false;
+            }
+        }
+        
+        /**
+         * Buffered sequential reader of a native-order run file
+         */
+        private static final class RunReader implements AutoCloseable {
+            private final FileChannel channel;
+            private final ByteBuffer buffer;
+            int head;
+            
+            RunReader(Path file, int blockBytes) throws IOException {
+                channel = FileChannel.open(file, StandardOpenOption.READ);
+                buffer = ByteBuffer.allocate(blockBytes).order(ByteOrder.nativeOrder());
+                buffer.flip(); // start empty
+            }
+            
+            /**
+             * Loads the next int into head
+             * @return boolean - false once the run is exhausted
+             */
+            boolean advance() throws IOException {
+                if (buffer.remaining() < Integer.BYTES) {
+                    buffer.compact();
+                    while (buffer.position() < Integer.BYTES && channel.read(buffer) >= 0) {
+                        // keep reading until at least one int is available or the run ends
+                    }
+                    buffer.flip();
+                    if (buffer.remaining() < Integer.BYTES) {
+                        return false;
+                    }
+                }
+                head = buffer.getInt();
+                return true;
+            }
+            
+            @Override
+            public void close() throws IOException {
+                channel.close();
+            }
+        }
+        
+        /**
+         * Buffered sequential writer of a native-order run file
+         */
+        private static final class RunWriter implements AutoCloseable {
+            private final FileChannel channel;
+            private final ByteBuffer buffer;
+            
+            RunWriter(Path file, int blockBytes) throws IOException {
+                channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                buffer = ByteBuffer.allocate(blockBytes).order(ByteOrder.nativeOrder());
+            }
+            
+            void write(int value) throws IOException {
+                if (buffer.remaining() < Integer.BYTES) {
+                    flush();
+                }
+                buffer.putInt(value);
+            }
+            
+            private void flush() throws IOException {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                buffer.clear();
+            }
+            
+            @Override
+            public void close() throws IOException {
+                try {
+                    flush();
+                } finally {
+                    channel.close();
+                }
+            }
+        }
+        
+        /**
+         * Random access to a sorted int file through one sliding window.
+         * A forward cursor loads windows starting at the requested index, a
+         * backward cursor loads windows ending at it, so each cursor reads
+         * every window only once as the two pointers move towards each other.
+         * Windows are read into one reused buffer rather than memory-mapped:
+         * a discarded mapping stays in the address space until the GC frees
+         * it, so remapping per window would pile up mappings.
+         */
+        private static final class WindowCursor {
+            private final FileChannel channel;
+            private final long count;
+            private final boolean forward;
+            private final ByteBuffer bytes;
+            private final IntBuffer window;
+            private long start;
+            private int length; // 0 until the first window is loaded
+            
+            WindowCursor(FileChannel channel, long count, int windowInts, boolean forward) {
+                this.channel = channel;
+                this.count = count;
+                this.forward = forward;
+                this.bytes = ByteBuffer.allocate((int) Math.min(windowInts, count) * Integer.BYTES)
+                        .order(ByteOrder.nativeOrder());
+                this.window = bytes.asIntBuffer();
+            }
+            
+            int get(long index) throws IOException {
+                if (index < start || index >= start + length) {
+                    int capacity = window.capacity();
+                    start = forward ? index : Math.max(0, index - capacity + 1);
+                    length = (int) Math.min(capacity, count - start);
+                    bytes.clear().limit(length * Integer.BYTES);
+                    long position = start * Integer.BYTES;
+                    while (bytes.hasRemaining()) {
+                        if (channel.read(bytes, position + bytes.position()) < 0) {
+                            throw new EOFException("Sorted file ended before int " + (start + length));
+                        }
+                    }
+                }
+                return window.get((int) (index - start));
+            }
+        }
+    }
+    
+    /**
+     * Prepares a reusable index for answering many k values against one array
+     * @param nums - array of integers (not modified)
+     * @return PairSumIndex - sorted, deduplicated view of nums
+     * 
+     * Time Complexity: O(n log n) once, then see PairSumIndex.hasSum per query
+     * Space Complexity: O(n)
+     */
+    public PairSumIndex prepare(int[] nums) {
+        return new PairSumIndex(nums);
+    }
+    
+    /**
+     * Sorted, deduplicated index over one array that answers "does any pair
+     * sum to k?" for many k without re-hashing or re-sorting.
+     * 
+     * Each query first prunes k against the smallest and largest possible pair
+     * sums, then binary-searches the window of values that can take part in a
+     * pair ([k - max, k - min]) and runs two pointers only inside that window.
+     * A value counts as its own partner (v + v = k) only if it appeared at
+     * least twice. Sums are computed in long, so unlike hasSum the result is
+     * exact even when the pair sum does not fit in an int.
+     */
+    public static final class PairSumIndex {
+        /** Below this many queries a batch is answered on the calling thread */
+        private static final int PARALLEL_BATCH_THRESHOLD = 256;
+        
+        private final int[] values;   // distinct values, ascending
+        private final int[] repeated; // distinct values seen at least twice, ascending
+        private final long minSum;
+        private final long maxSum;
+        
+        PairSumIndex(int[] nums) {
+            int[] sorted = nums == null ? new int[0] : nums.clone();
+            Arrays.sort(sorted);
+            
+            int distinct = 0;
+            int repeats = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                if (i == 0 || sorted[i] != sorted[i - 1]) {
+                    distinct++;
+                } else if (i == 1 || sorted[i - 1] != sorted[i - 2]) {
+                    repeats++; // second occurrence of this value
+                }
+            }
+            values = new int[distinct];
+            repeated = new int[repeats];
+            distinct = 0;
+            repeats = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                if (i == 0 || sorted[i] != sorted[i - 1]) {
+                    values[distinct++] = sorted[i];
+                } else if (i == 1 || sorted[i - 1] != sorted[i - 2]) {
+                    repeated[repeats++] = sorted[i];
+                }
+            }
+            
+            int n = sorted.length;
+            if (n < 2) {
+                // No pair exists: make every query fail the range check
+                minSum = Long.MAX_VALUE;
+                maxSum = Long.MIN_VALUE;
+            } else {
+                minSum = (long) sorted[0] + sorted[1];
+                maxSum = (long) sorted[n - 2] + sorted[n - 1];
+            }
+        }
+        
+        /**
+         * Checks whether any two elements of the indexed array sum to k
+         * @param k - target sum value
+         * @return boolean - true if any two numbers sum to k
+         * 
+         * Time Complexity: O(1) when k is outside [minSum, maxSum],
+         * otherwise O(log n + w) where w is the number of distinct values in
+         * the candidate window
+         */
+        public boolean hasSum(long k) {
+            if (k < minSum || k > maxSum) {
+                return false;
+            }
+            
+            // A value paired with itself needs two copies
+            if ((k & 1) == 0 && Arrays.binarySearch(repeated, (int) (k / 2)) >= 0) {
+                return true;
+            }
+            
+            // Only values in [k - max, k - min] can have a partner
+            int n = values.length;
+            int left = lowerBound(values, k - values[n - 1]);
+            int right = lowerBound(values, k - values[0] + 1) - 1;
+            
+            while (left < right) {
+                long sum = (long) values[left] + values[right];
+                if (sum == k) {
+                    return true;
+                } else if (sum < k) {
+                    left++;
+                } else {
+                    right--;
+                }
+            }
+            return false;
+        }
+        
+        /**
+         * Answers a batch of queries, in parallel across cores for large batches
+         * @param ks - target sum values
+         * @return boolean[] - result[i] is hasSum(ks[i])
+         */
+        public boolean[] hasSumAll(int[] ks) {
+            boolean[] result = new boolean[ks.length];
+            IntStream indices = IntStream.range(0, ks.length);
+            if (ks.length >= PARALLEL_BATCH_THRESHOLD) {
+                indices = indices.parallel();
+            }
+            // Each index writes its own slot, so no synchronisation is needed
+            indices.forEach(i -> result[i] = hasSum(ks[i]));
+            return result;
+        }
+        
+        /**
+         * Number of distinct values in the index
+         */
+        public int distinctCount() {
+            return values.length;
+        }
+        
+        /**
+         * First index whose value is >= key (values.length if none)
+         */
+        private static int lowerBound(int[] sorted, long key) {
+            int low = 0;
+            int high = sorted.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (sorted[mid] < key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+    
+    /**
+     * Online monitor answering "do any two of the last W events sum to k?"
+     * for a fixed set of k values.
+     * 
+     * Window contents are kept as a counted multiset in an IntCountMap, and
+     * for every registered k the monitor maintains the number of window pairs
+     * that sum to k. When a value v arrives it forms count(k - v) new pairs;
+     * when it leaves it takes the same number away. Each event therefore costs
+     * O(number of targets) amortized, and a query is a single comparison.
+     * Sums are exact (computed in long), not wrapped to int.
+     */
+    public static final class SlidingWindowPairSum {
+        private final int[] window;   // ring buffer of the last W values
+        private int head;             // index of the oldest value
+        private int size;
+        private final int[] targets;
+        private final long[] pairCounts;
+        private final IntCountMap counts;
+        
+        /**
+         * @param windowSize - W, the number of most recent events to consider
+         * @param targets - k values to monitor
+         */
+        public SlidingWindowPairSum(int windowSize, int... targets) {
+            if (windowSize < 1) {
+                throw new IllegalArgumentException("Window size must be positive: " + windowSize);
+            }
+            if (targets.length == 0) {
+                throw new IllegalArgumentException("At least one target is required");
+            }
+            this.window = new int[windowSize];
+            this.targets = targets.clone();
+            this.pairCounts = new long[targets.length];
+            this.counts = new IntCountMap(windowSize);
+        }
+        
+        /**
+         * Adds an event, expiring the oldest one first if the window is full
+         * @param value - the new event
+         */
+        public void add(int value) {
+            if (size == window.length) {
+                expire();
+            }
+            for (int t = 0; t < targets.length; t++) {
+                pairCounts[t] += countOf((long) targets[t] - value);
+            }
+            counts.increment(value);
+            window[(head + size) % window.length] = value;
+            size++;
+        }
+        
+        /**
+         * Removes the oldest event (e.g. when it falls out of a time window)
+         * @return int - the expired value
+         * @throws NoSuchElementException if the window is empty
+         */
+        public int expire() {
+            if (size == 0) {
+                throw new NoSuchElementException("Window is empty");
+            }
+            int value = window[head];
+            head = (head + 1) % window.length;
+            size--;
+            counts.decrement(value);
+            for (int t = 0; t < targets.length; t++) {
+                pairCounts[t] -= countOf((long) targets[t] - value);
+            }
+            return value;
+        }
+        
+        /**
+         * Checks whether two events in the current window sum to k
+         * @param k - one of the targets passed to the constructor
+         * @return boolean - true if at least one pair sums to k
+         * @throws IllegalArgumentException if k was not registered
+         */
+        public boolean query(int k) {
+            return pairCount(k) > 0;
+        }
+        
+        /**
+         * Number of index pairs in the current window that sum to k
+         * @param k - one of the targets passed to the constructor
+         * @return long - pair count
+         * @throws IllegalArgumentException if k was not registered
+         */
+        public long pairCount(int k) {
+            for (int t = 0; t < targets.length; t++) {
+                if (targets[t] == k) {
+                    return pairCounts[t];
+                }
+            }
+            throw new IllegalArgumentException("Target " + k + " is not monitored");
+        }
+        
+        /**
+         * Answers every registered target at once
+         * @return boolean[] - result[i] corresponds to the i-th constructor target
+         */
+        public boolean[] queryAll() {
+            boolean[] result = new boolean[targets.length];
+            for (int t = 0; t < targets.length; t++) {
+                result[t] = pairCounts[t] > 0;
+            }
+            return result;
+        }
+        
+        public int size() {
+            return size;
+        }
+        
+        private int countOf(long value) {
+            if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+                return 0;
+            }
+            return counts.count((int) value);
+        }
+    }
+    
+    /**
+     * Open-addressing int -> count multiset with linear probing.
+     * 
+     * A slot is occupied when its count is non-zero, so any int (including 0)
+     * can be a key. When a count drops to zero the slot is freed with
+     * backward-shift deletion, which keeps probe chains intact without
+     * tombstones, so a long-running window never degrades.
+     */
+    static final class IntCountMap {
+        private int[] keys;
+        private int[] counts;
+        private int mask;
+        private int size;
+        
+        IntCountMap(int expectedSize) {
+            allocate(PrimitiveHashing.tableSizeFor(expectedSize));
+        }
+        
+        int count(int key) {
+            int slot = PrimitiveHashing.mix(key) & mask;
+            while (counts[slot] != 0) {
+                if (keys[slot] == key) {
+                    return counts[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            return 0;
+        }
+        
+        /**
+         * @return int - the count after incrementing
+         */
+        int increment(int key) {
+            int slot = PrimitiveHashing.mix(key) & mask;
+            while (counts[slot] != 0) {
+                if (keys[slot] == key) {
+                    return ++counts[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            counts[slot] = 1;
+            if (++size > (mask + 1) >>> 1) {
+                rehash(PrimitiveHashing.grownCapacity(keys.length));
+            }
+            return 1;
+        }
+        
+        /**
+         * @return int - the count after decrementing (0 if the key was absent)
+         */
+        int decrement(int key) {
+            int slot = PrimitiveHashing.mix(key) & mask;
+            while (counts[slot] != 0) {
+                if (keys[slot] == key) {
+                    if (--counts[slot] == 0) {
+                        size--;
+                        shiftBack(slot);
+                        return 0;
+                    }
+                    return counts[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            return 0;
+        }
+        
+        int size() {
+            return size;
+        }
+        
+        /**
+         * Fills the hole at slot by pulling back later entries of the same
+         * probe chain, so lookups never stop early at a freed slot
+         */
+        private void shiftBack(int hole) {
+            int next = (hole + 1) & mask;
+            while (counts[next] != 0) {
+                int home = PrimitiveHashing.mix(keys[next]) & mask;
+                // The entry may move into the hole only if the hole lies on its probe path
+                if (((next - home) & mask) >= ((next - hole) & mask)) {
+                    keys[hole] = keys[next];
+                    counts[hole] = counts[next];
+                    hole = next;
+                }
+                next = (next + 1) & mask;
+            }
+            counts[hole] = 0;
+        }
+        
+        private void rehash(int newCapacity) {
+            int[] oldKeys = keys;
+            int[] oldCounts = counts;
+            allocate(newCapacity);
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldCounts[i] != 0) {
+                    int slot = PrimitiveHashing.mix(oldKeys[i]) & mask;
+                    while (counts[slot] != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = oldKeys[i];
+                    counts[slot] = oldCounts[i];
+                }
+            }
+        }
+        
+        private void allocate(int capacity) {
+            keys = new int[capacity];
+            counts = new int[capacity];
+            mask = capacity - 1;
+        }
+    }
+    
+    /**
+     * Measures the crossover points between hasSum's strategies on this machine
+     * @return PairSumThresholds - calibrated thresholds
+     * 
+     * smallInputThreshold: the first length at which the hash set beats
+     * the lane-blocked scan. bitmapMaxBitsPerElement: the largest
+     * range-to-length ratio at which the bitmap still beats the hash set.
+     * Both are timed on inputs with no matching pair, which is the worst
+     * case for every strategy.
+     */
+    public static PairSumThresholds calibrateThresholds() {
+        TwoNumbersSumToK solver = new TwoNumbersSumToK();
+        PairSumThresholds d = PairSumThresholds.defaults();
+        
+        int smallInput = 256;
+        for (int n = 4; n <= 256; n += 4) {
+            int[] nums = evenValues(n, 4 * n, n);
+            long bruteNanos = time(() -> solver.hasSumBruteForceLanes(nums, 1), 200_000 / n);
+            long hashNanos = time(() -> solver.hasSumHashed(nums, 1), 200_000 / n);
+            if (hashNanos < bruteNanos) {
+                smallInput = n;
+                break;
+            }
+        }
+        
+        int n = 1 << 16;
+        int bitsPerElement = 1;
+        for (int ratio = 2; ratio <= 1024; ratio *= 2) {
+            int[] nums = evenValues(n, ratio * n, ratio);
+            int min = min(nums);
+            int max = max(nums);
+            long bitmapNanos = time(() -> solver.hasSumBitmap(nums, 1, min, max), 20);
+            long hashNanos = time(() -> solver.hasSumHashed(nums, 1), 20);
+            if (bitmapNanos > hashNanos) {
+                break;
+            }
+            bitsPerElement = ratio;
+        }
+        return new PairSumThresholds(smallInput, bitsPerElement, d.bitmapMaxRange());
+    }
+    
+    /**
+     * n shuffled even values spread over a range of about span, so an odd k never matches
+     */
+    private static int[] evenValues(int n, long span, long seed) {
+        Random random = new Random(seed);
+        int bound = (int) Math.max(1, Math.min(Integer.MAX_VALUE / 2, span / 2));
+        int[] nums = new int[n];
+        for (int i = 0; i < n; i++) {
+            nums[i] = 2 * random.nextInt(bound);
+        }
+        return nums;
+    }
+    
+    /**
+     * Best-of-five average nanoseconds per run, after a warm-up round
+     */
+    private static long time(java.util.function.BooleanSupplier run, int runs) {
+        runs = Math.max(1, runs);
+        long best = Long.MAX_VALUE;
+        int sink = 0;
+        for (int round = 0; round < 6; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < runs; i++) {
+                sink += run.getAsBoolean() ? 1 : 0;
+            }
+            long elapsed = System.nanoTime() - start;
+            if (round > 0) {
+                best = Math.min(best, elapsed / runs);
+            }
+        }
+        if (sink < 0) {
+            System.out.println(sink); // keeps the timed calls observable
+        }
+        return best;
+    }
+    
+    /**
+     * Minimal set-of-ints contract shared by the hash set and the bitmap
+     */
+    private interface IntMembership {
+        boolean add(int key);
+        
+        boolean contains(int key);
+    }
+    
+    /**
+     * Open-addressing hash set of primitive ints with linear probing.
+     * 
+     * Keys live directly in an int[] table whose length is a power of two,
+     * so membership tests never box and the table is a single allocation.
+     * Slot value 0 marks an empty slot; the key 0 itself is tracked by a
+     * separate flag. The table grows when it becomes half full, which keeps
+     * probe sequences short.
+     */
+    static final class IntHashSet implements IntMembership {
+        private int[] table;
+        private int mask;
+        private int size;          // number of non-zero keys in the table
+        private boolean containsZero;
+        
+        IntHashSet(int expectedSize) {
+            allocate(PrimitiveHashing.tableSizeFor(expectedSize));
+        }
+        
+        /**
+         * Adds a key to the set
+         * @param key - value to add
+         * @return boolean - true if the key was not already present
+         */
+        @Override
+        public boolean add(int key) {
+            if (key == 0) {
+                boolean added = !containsZero;
+                containsZero = true;
+                return added;
+            }
+            int slot = PrimitiveHashing.mix(key) & mask;
+            while (table[slot] != 0) {
+                if (table[slot] == key) {
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = key;
+            if (++size > (mask + 1) >>> 1) {
+                rehash(PrimitiveHashing.grownCapacity(table.length));
+            }
+            return true;
+        }
+        
+        /**
+         * Checks whether a key is present
+         * @param key - value to look up
+         * @return boolean - true if the key is in the set
+         */
+        @Override
+        public boolean contains(int key) {
+            if (key == 0) {
+                return containsZero;
+            }
+            int slot = PrimitiveHashing.mix(key) & mask;
+            int current;
+            while ((current = table[slot]) != 0) {
+                if (current == key) {
+                    return true;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return false;
+        }
+        
+        int size() {
+            return containsZero ? size + 1 : size;
+        }
+        
+        /**
+         * Removes every key while keeping the allocated table for reuse
+         */
+        void clear() {
+            Arrays.fill(table, 0);
+            size = 0;
+            containsZero = false;
+        }
+        
+        private void rehash(int newCapacity) {
+            int[] old = table;
+            allocate(newCapacity);
+            for (int key : old) {
+                if (key != 0) {
+                    int slot = PrimitiveHashing.mix(key) & mask;
+                    while (table[slot] != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    table[slot] = key;
+                }
+            }
+        }
+        
+        private void allocate(int capacity) {
+            table = new int[capacity];
+            mask = capacity - 1;
+        }
+    }
+    
+    /**
+     * Open-addressing map from an epsilon-wide cell index to the smallest and
+     * largest double seen in that cell, stored in parallel primitive arrays
+     */
+    static final class DoubleCellMap {
+        private long[] cells;
+        private double[] mins;
+        private double[] maxs;
+        private boolean[] used;
+        private int mask;
+        private int size;
+        
+        DoubleCellMap(int expectedSize) {
+            allocate(PrimitiveHashing.tableSizeFor(expectedSize));
+        }
+        
+        void add(long cell, double value) {
+            int slot = PrimitiveHashing.mix(cell) & mask;
+            while (used[slot]) {
+                if (cells[slot] == cell) {
+                    mins[slot] = Math.min(mins[slot], value);
+                    maxs[slot] = Math.max(maxs[slot], value);
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            used[slot] = true;
+            cells[slot] = cell;
+            mins[slot] = value;
+            maxs[slot] = value;
+            if (++size > (mask + 1) >>> 1) {
+                rehash(PrimitiveHashing.grownCapacity(cells.length));
+            }
+        }
+        
+        /**
+         * Whether the cell holds a value w with |value + w - k| <= epsilon. The
+         * sum is monotone in w and the cell is epsilon wide, so if any stored w
+         * qualifies then its min or its max does; only those two are tested.
+         */
+        boolean hasPartner(long cell, double value, double k, double epsilon) {
+            int slot = PrimitiveHashing.mix(cell) & mask;
+            while (used[slot]) {
+                if (cells[slot] == cell) {
+                    return Math.abs(value + mins[slot] - k) <= epsilon || Math.abs(value + maxs[slot] - k) <= epsilon;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return false;
+        }
+        
+        private void rehash(int newCapacity) {
+            long[] oldCells = cells;
+            double[] oldMins = mins;
+            double[] oldMaxs = maxs;
+            boolean[] oldUsed = used;
+            allocate(newCapacity);
+            for (int i = 0; i < oldCells.length; i++) {
+                if (oldUsed[i]) {
+                    int slot = PrimitiveHashing.mix(oldCells[i]) & mask;
+                    while (used[slot]) {
+                        slot = (slot + 1) & mask;
+                    }
+                    used[slot] = true;
+                    cells[slot] = oldCells[i];
+                    mins[slot] = oldMins[i];
+                    maxs[slot] = oldMaxs[i];
+                }
+            }
+        }
+        
+        private void allocate(int capacity) {
+            cells = new long[capacity];
+            mins = new double[capacity];
+            maxs = new double[capacity];
+            used = new boolean[capacity];
+            mask = capacity - 1;
+        }
+    }
+    
+    /**
+     * Direct-addressed set of ints drawn from a known range [min, max].
+     * Uses one bit per possible value, so membership is a shift and a mask.
+     */
+    static final class IntBitmap implements IntMembership {
+        private final long[] words;
+        private final int min;
+        private final int max;
+        
+        IntBitmap(int min, int max) {
+            if (min > max) {
+                throw new IllegalArgumentException("Empty value range [" + min + ", " + max + "]");
+            }
+            long bits = (long) max - min + 1;
+            this.words = new long[(int) ((bits + 63) >>> 6)];
+            this.min = min;
+            this.max = max;
+        }
+        
+        @Override
+        public boolean add(int key) {
+            if (key < min || key > max) {
+                throw new IllegalArgumentException("Value " + key + " outside declared range [" + min + ", " + max + "]");
+            }
+            long offset = (long) key - min;
+            int word = (int) (offset >>> 6);
+            long bit = 1L << offset; // shift uses the low 6 bits only
+            boolean added = (words[word] & bit) == 0;
+            words[word] |= bit;
+            return added;
+        }
+        
+        @Override
+        public boolean contains(int key) {
+            if (key < min || key > max) {
+                return false;
+            }
+            long offset = (long) key - min;
+            return (words[(int) (offset >>> 6)] & (1L << offset)) != 0;
+        }
+    }
+    
+    /**
+     * Test cases and example usage
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length > 0 && args[0].equals("--calibrate")) {
+            Path file = Paths.get(args.length > 1 ? args[1] : PairSumThresholds.DEFAULT_CONFIG_FILE);
+            PairSumThresholds calibrated = calibrateThresholds();
+            calibrated.store(file);
+            System.out.println("Calibrated " + calibrated + " -> " + file);
+            return;
+        }
+        
+        TwoNumbersSumToK solution = new TwoNumbersSumToK();
+        
+        // Test case 1: Given example
+        int[] nums1 = {10, 15, 3, 7};
+        int k1 = 17;
+        boolean result1 = solution.hasSum(nums1, k1);
+        System.out.println("Test 1: " + result1); // Expected: true (10 + 7 = 17)
+        
+        // Test case 2: No valid pair
+        int[] nums2 = {1, 2, 3, 4};
+        int k2 = 10;
+        boolean result2 = solution.hasSum(nums2, k2);
+        System.out.println("Test 2: " + result2); // Expected: false
+        
+        // Test case 3: With negative numbers
+        int[] nums3 = {-1, -2, -3, 4, 5};
+        int k3 = 2;
+        boolean result3 = solution.hasSum(nums3, k3);
+        System.out.println("Test 3: " + result3); // Expected: true (-3 + 5 = 2)
+        
+        // Test case 4: Same number twice (duplicates)
+        int[] nums4 = {3, 3, 4, 5};
+        int k4 = 6;
+        boolean result4 = solution.hasSum(nums4, k4);
+        System.out.println("Test 4: " + result4); // Expected: true (3 + 3 = 6)
+        
+        // Test case 5: Single element array
+        int[] nums5 = {5};
+        int k5 = 10;
+        boolean result5 = solution.hasSum(nums5, k5);
+        System.out.println("Test 5: " + result5); // Expected: false
+        
+        // Test case 6: Empty array
+        int[] nums6 = {};
+        int k6 = 5;
+        boolean result6 = solution.hasSum(nums6, k6);
+        System.out.println("Test 6: " + result6); // Expected: false
         
         // Test case 7: Target sum is 0
         int[] nums7 = {-1, 0, 1, 2};
@@ -200,10 +2076,75 @@ public class TwoNumbersSumToK {
         boolean bruteForce1 = solution.hasSumBruteForce(nums1, k1);
         System.out.println("Test 1 Brute Force: " + bruteForce1);
         
+        // Adaptive front end picks a strategy from size, range and sortedness,
+        // with calibrated thresholds if a config file has been written
+        Path config = Paths.get(PairSumThresholds.DEFAULT_CONFIG_FILE);
+        PairSumThresholds thresholds = Files.isReadable(config)
+                ? PairSumThresholds.load(config) : PairSumThresholds.defaults();
+        int[] sortedInput = {1, 3, 5, 8, 13, 21, 34, 55, 89, 144, 233, 377, 610, 987, 1597, 2584};
+        int[] denseInput = new int[1000];
+        for (int i = 0; i < denseInput.length; i++) {
+            denseInput[i] = (i * 7919) % 1000;
+        }
+        System.out.println("Thresholds: " + thresholds);
+        System.out.println("Test 1 Adaptive (" + solution.chooseStrategy(nums1, thresholds) + "): "
+                + solution.hasSumAdaptive(nums1, k1, thresholds));
+        System.out.println("Sorted Input Adaptive (" + solution.chooseStrategy(sortedInput, thresholds) + "): "
+                + solution.hasSumAdaptive(sortedInput, 1597 + 2584, thresholds)); // Expected: true
+        System.out.println("Dense Input Adaptive (" + solution.chooseStrategy(denseInput, thresholds) + "): "
+                + solution.hasSumAdaptive(denseInput, 1997, thresholds)); // Expected: true (998 + 999)
+        
+        // Verify with the lane-blocked brute force
+        boolean lanes1 = solution.hasSumBruteForceLanes(nums1, k1);
+        System.out.println("Test 1 Lane-Blocked Brute Force: " + lanes1);
+        
         // Verify with two pointers
         boolean twoPointers1 = solution.hasSumTwoPointers(nums1, k1);
         System.out.println("Test 1 Two Pointers: " + twoPointers1);
         
+        // Already sorted (no copy, no sort) and nearly sorted (run merge)
+        boolean descendingInput = solution.hasSumTwoPointers(new int[]{15, 10, 7, 3}, 17);
+        System.out.println("Descending Input Two Pointers: " + descendingInput); // Expected: true
+        boolean twoRuns = solution.hasSumTwoPointers(new int[]{1, 4, 9, 2, 3, 8}, 17);
+        System.out.println("Two-Run Input Two Pointers: " + twoRuns); // Expected: true (9 + 8)
+        
+        // Verify with the boxed reference implementation
+        boolean boxed1 = solution.hasSumBoxed(nums1, k1);
+        System.out.println("Test 1 Boxed HashSet: " + boxed1);
+        
+        // 64-bit and floating-point inputs
+        long[] ids = {4_000_000_000L, 9_000_000_000L, Long.MAX_VALUE, -7L};
+        System.out.println("Long Test: " + solution.hasSum(ids, 13_000_000_000L)); // Expected: true
+        // 9e9 + Long.MAX_VALUE wraps around to exactly this k, but is no real sum
+        System.out.println("Long Overflow Test: " + solution.hasSum(ids, Long.MIN_VALUE + 8_999_999_999L)); // Expected: false
+        double[] amounts = {19.99, 5.01, 0.1, 0.2};
+        System.out.println("Double Test: " + solution.hasSum(amounts, 0.3, 1e-9)); // Expected: true (0.1 + 0.2)
+        System.out.println("Double Miss Test: " + solution.hasSum(amounts, 25.5, 1e-9)); // Expected: false
+        // |v / epsilon| beyond the cell index range: large values, then a tiny epsilon
+        System.out.println("Double Large-Magnitude Test: " + solution.hasSum(new double[]{1e10, 5e10, 1}, 3e10 + 1, 1e-9)); // Expected: false
+        System.out.println("Double Tiny-Epsilon Test: " + solution.hasSum(new double[]{1e4, 5e4, 1}, 3e4 + 1, 1e-15)); // Expected: false
+        System.out.println("Double Tiny-Epsilon Hit: " + solution.hasSum(new double[]{1e4, 5e4, 1}, 5e4 + 1, 1e-15)); // Expected: true
+        
+        // Many targets against one prepared array
+        PairSumIndex index = solution.prepare(new int[]{10, 15, 3, 7, 3});
+        boolean[] batch = index.hasSumAll(new int[]{17, 6, 25, 100, 13});
+        System.out.println("Prepared index [17, 6, 25, 100, 13]: " + Arrays.toString(batch));
+        // Expected: [true, true, true, false, true]
+        
+        // Streaming input: stops at the first pair without reading the rest
+        boolean streamed = solution.hasSum(IntStream.iterate(1, x -> x + 1), 17);
+        System.out.println("Unbounded IntStream 1, 2, 3, ... with k=17: " + streamed); // Expected: true
+        boolean bitmap = solution.hasSum(IntStream.of(nums3).iterator(), k3, -3, 5);
+        System.out.println("Test 3 Bitmap Range [-3, 5]: " + bitmap); // Expected: true
+        
+        // Sliding window of the last 3 events, watching k = 17 and k = 6
+        SlidingWindowPairSum monitor = new SlidingWindowPairSum(3, 17, 6);
+        for (int event : new int[]{10, 7, 3, 3, 15, 2}) {
+            monitor.add(event);
+            System.out.println("Window after " + event + ": k=17 " + monitor.query(17) + ", k=6 " + monitor.query(6));
+        }
+        // Expected: k=17 true for [10, 7], [10, 7, 3] and [3, 15, 2]; k=6 true for [7, 3, 3] and [3, 3, 15]
+        
         // Performance note
         System.out.println("\\n--- Performance Note ---");
         System.out.println("✓ One Pass Solution: O(n) time, O(n) space");
@@ -31,6 +31,10 @@
  * 5. If yes, return [complement_index, current_index]
  * 6. If no, add current number and index to the map
  * 
+ * The production path uses a primitive int -> int table (IntIntHashMap) held in a
+ * per-thread Solver, so a lookup is a single probe and repeated calls reuse the
+ * same arrays instead of allocating a new map every time.
+ * 
  * Time Complexity: O(n) - single pass through the array
  * Space Complexity: O(n) - HashMap can store up to n elements
  * 
@@ -42,19 +46,200 @@
 
 package com.dailyproblems.easy;
 
+import com.dailyproblems.util.PairSumThresholds;
+import com.dailyproblems.util.PrimitiveHashing;
+
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class TwoSum {
     
+    /** Elements compared per block in the lane-blocked brute force */
+    private static final int LANES = 8;
+    
+    /** Built-in crossover points used by twoSum, shared with TwoNumbersSumToK */
+    private static final PairSumThresholds DEFAULT_THRESHOLDS = PairSumThresholds.defaults();
+    
+    /**
+     * One reusable solver per thread; its tables are cleared, not reallocated
+     */
+    private static final ThreadLocal<Solver> SOLVER = ThreadLocal.withInitial(Solver::new);
+    
     /**
      * Finds two indices in the array that sum to the target value
      * @param nums - array of integers
      * @param target - target sum value
      * @return int[] - array containing the two indices
+     * 
+     * In steady state the only allocation is the two-element result.
      */
     public int[] twoSum(int[] nums, int target) {
+        // Tiny inputs: a lane-blocked quadratic scan beats hashing
+        if (nums.length < DEFAULT_THRESHOLDS.smallInputThreshold()) {
+            return twoSumBruteForceLanes(nums, target);
+        }
+        return SOLVER.get().solve(nums, target);
+    }
+    
+    /**
+     * Adaptive front end: profiles the input and runs the fastest strategy
+     * @param nums - array of integers
+     * @param target - target sum value
+     * @param thresholds - crossover points between strategies
+     * @return int[] - array containing the two indices, the same pair twoSum returns
+     * 
+     * - shorter than smallInputThreshold: the lane-blocked scan
+     * - value range within the thresholds' bitmap budget: a direct index
+     *   table over [min, max] (one int per possible value, so the budget in
+     *   bits is divided by Integer.SIZE)
+     * - otherwise: the reusable hash-based solver
+     * All three return, for the first j that completes a pair, the last
+     * earlier index holding target - nums[j], so the answer never depends on
+     * the strategy. Sorted input gets no two-pointer path for that reason.
+     * 
+     * Time Complexity: O(n) profiling pass plus the chosen strategy
+     * Space Complexity: O(max - min) for the direct table, otherwise as twoSum
+     */
+    public int[] twoSumAdaptive(int[] nums, int target, PairSumThresholds thresholds) {
+        if (nums.length < Math.max(2, thresholds.smallInputThreshold())) {
+            return twoSumBruteForceLanes(nums, target);
+        }
+        
+        int min = nums[0];
+        int max = nums[0];
+        for (int num : nums) {
+            min = Math.min(min, num);
+            max = Math.max(max, num);
+        }
+        long tableBits = ((long) max - min + 1) * Integer.SIZE;
+        if (tableBits <= thresholds.bitmapMaxRange()
+                && tableBits <= (long) nums.length * thresholds.bitmapMaxBitsPerElement()) {
+            return twoSumDirect(nums, target, min, max - min + 1);
+        }
+        return SOLVER.get().solve(nums, target);
+    }
+    
+    /**
+     * One pass over a direct-addressed table: slot v - min holds 1 + the
+     * last index seen with value v, so the zero-filled array starts empty
+     */
+    private int[] twoSumDirect(int[] nums, int target, int min, int range) {
+        int[] lastIndexPlusOne = new int[range];
+        for (int j = 0; j < nums.length; j++) {
+            long slot = (long) (target - nums[j]) - min; // complement wraps exactly as in twoSum
+            if (slot >= 0 && slot < range && lastIndexPlusOne[(int) slot] != 0) {
+                return new int[]{lastIndexPlusOne[(int) slot] - 1, j};
+            }
+            lastIndexPlusOne[nums[j] - min] = j + 1;
+        }
+        
+        throw new IllegalArgumentException("No two sum solution exists");
+    }
+    
+    /**
+     * Two pointers over input that is already sorted, without copying or hashing it
+     * @param nums - array sorted ascending or descending
+     * @param target - target sum value
+     * @return int[] - the two original indices, smaller index first
+     * @throws IllegalArgumentException if nums is not sorted or no pair exists
+     * 
+     * Opt-in only: when several pairs sum to target this may return a
+     * different one than twoSum, which reports the first j that completes a
+     * pair. Sums wrap as in twoSum; the exact sum of two ints lies in
+     * [-2^32, 2^32), so besides target only its wrapped twin can match.
+     * 
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     */
+    public int[] twoSumSorted(int[] nums, int target) {
+        boolean ascending = true;
+        boolean descending = true;
+        for (int i = 1; i < nums.length && (ascending || descending); i++) {
+            ascending &= nums[i - 1] <= nums[i];
+            descending &= nums[i - 1] >= nums[i];
+        }
+        if (!ascending && !descending) {
+            throw new IllegalArgumentException("Input is not sorted");
+        }
+        
+        int[] pair = pairInSorted(nums, target, ascending);
+        if (pair == null) {
+            long twin = target >= 0 ? target - (1L << 32) : target + (1L << 32);
+            pair = pairInSorted(nums, twin, ascending);
+        }
+        if (pair == null) {
+            throw new IllegalArgumentException("No two sum solution exists");
+        }
+        return pair;
+    }
+    
+    /**
+     * Two-pointer scan for an exact long sum, or null if no pair has it
+     */
+    private static int[] pairInSorted(int[] nums, long target, boolean ascending) {
+        // low walks from the smallest value, high from the largest
+        int low = ascending ? 0 : nums.length - 1;
+        int high = ascending ? nums.length - 1 : 0;
+        int step = ascending ? 1 : -1;
+        
+        while (low != high && nums.length > 1) {
+            long sum = (long) nums[low] + nums[high];
+            if (sum == target) {
+                return new int[]{Math.min(low, high), Math.max(low, high)};
+            } else if (sum < target) {
+                low += step;
+            } else {
+                high -= step;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * 64-bit variant of twoSum with an overflow-safe complement
+     * @param nums - array of longs
+     * @param target - target sum value
+     * @return int[] - array containing the two indices
+     * 
+     * Time Complexity: O(n)
+     * Space Complexity: O(n) - primitive LongIntHashMap, no boxing
+     */
+    public int[] twoSum(long[] nums, long target) {
+        LongIntHashMap numToIndex = new LongIntHashMap(nums.length);
+        
+        for (int i = 0; i < nums.length; i++) {
+            long complement = target - nums[i];
+            // If the subtraction overflowed, no long can be the complement
+            boolean overflow = ((target ^ nums[i]) & (target ^ complement)) < 0;
+            if (!overflow) {
+                int j = numToIndex.get(complement, -1);
+                if (j >= 0) {
+                    return new int[]{j, i};
+                }
+            }
+            numToIndex.put(nums[i], i);
+        }
+        
+        throw new IllegalArgumentException("No two sum solution exists");
+    }
+    
+    /**
+     * Original approach using a boxed HashMap<Integer, Integer> (kept for comparison)
+     * @param nums - array of integers
+     * @param target - target sum value
+     * @return int[] - array containing the two indices
+     * 
+     * Time Complexity: O(n)
+     * Space Complexity: O(n) - one boxed entry per element, allocated on every call
+     */
+    public int[] twoSumHashMap(int[] nums, int target) {
         // HashMap to store number -> index mapping
         Map<Integer, Integer> numToIndex = new HashMap<>();
         
@@ -99,6 +284,466 @@ public class TwoSum {
         throw new IllegalArgumentException("No two sum solution exists");
     }
     
+    /**
+     * Brute force that compares one broadcast complement against a block of
+     * LANES earlier elements at a time (used by twoSum for small inputs)
+     * @param nums - array of integers
+     * @param target - target sum value
+     * @return int[] - array containing the two indices
+     * 
+     * For every j it looks for the last i < j holding target - nums[j], so it
+     * returns the same pair as the hash-based twoSum.
+     * 
+     * Time Complexity: O(n²), with one branch per block instead of per pair
+     * Space Complexity: O(1)
+     */
+    public int[] twoSumBruteForceLanes(int[] nums, int target) {
+        for (int j = 1; j < nums.length; j++) {
+            int i = lastIndexBefore(nums, j, target - nums[j]);
+            if (i >= 0) {
+                return new int[]{i, j};
+            }
+        }
+        
+        throw new IllegalArgumentException("No two sum solution exists");
+    }
+    
+    /**
+     * Largest index i < end with nums[i] == need, or -1. Blocks of LANES
+     * elements are tested with straight-line code and a single branch; only
+     * a block that contains a hit is rescanned to find the exact lane.
+     */
+    private static int lastIndexBefore(int[] nums, int end, int need) {
+        int j = end;
+        for (; j >= LANES; j -= LANES) {
+            int hits = 0;
+            for (int lane = 1; lane <= LANES; lane++) {
+                hits |= zeroToSignBit(nums[j - lane] ^ need);
+            }
+            if (hits < 0) {
+                break; // the hit is inside this block
+            }
+        }
+        for (int i = j - 1; i >= 0; i--) {
+            if (nums[i] == need) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * Returns a value whose sign bit is set exactly when diff == 0
+     */
+    private static int zeroToSignBit(int diff) {
+        return (diff - 1) & ~diff;
+    }
+    
+    /**
+     * Lazily enumerates every index pair (i, j), i < j, with nums[i] + nums[j] == target
+     * @param nums - array of integers (must not change while the stream is consumed)
+     * @param target - target sum value
+     * @return Stream<int[]> - pairs as two-element arrays, ordered by j and then i
+     * 
+     * Time Complexity: O(n) to build the index, then O(1) amortized per pair
+     * Space Complexity: O(n) - the value -> indices multimap
+     */
+    public Stream<int[]> allPairs(int[] nums, int target) {
+        return allPairsEncoded(nums, target).mapToObj(pair -> new int[]{pairFirst(pair), pairSecond(pair)});
+    }
+    
+    /**
+     * Allocation-light form of allPairs: each pair is packed into one long as
+     * (i << 32) | j. Call .parallel() on the result to enumerate pairs on
+     * several cores; the spliterator splits by ranges of j, so nothing is
+     * materialized up front.
+     * @param nums - array of integers (must not change while the stream is consumed)
+     * @param target - target sum value
+     * @return LongStream - encoded pairs, decode with pairFirst / pairSecond
+     */
+    public LongStream allPairsEncoded(int[] nums, int target) {
+        IndexMultimap index = new IndexMultimap(nums);
+        return StreamSupport.longStream(new PairSpliterator(index, nums, target, 0, nums.length), false);
+    }
+    
+    /**
+     * First (smaller) index of a pair produced by allPairsEncoded
+     */
+    public static int pairFirst(long pair) {
+        return (int) (pair >>> 32);
+    }
+    
+    /**
+     * Second (larger) index of a pair produced by allPairsEncoded
+     */
+    public static int pairSecond(long pair) {
+        return (int) pair;
+    }
+    
+    /**
+     * Primitive value -> ascending list of indices, stored CSR-style: all index
+     * lists are packed into one int[] and each distinct value owns the slice
+     * [groupStart[g], groupStart[g + 1]). An IntIntHashMap maps value -> g.
+     */
+    static final class IndexMultimap {
+        private static final int ABSENT = -1;
+        
+        private final IntIntHashMap groupOf;
+        private final int[] groupStart;
+        private final int[] indices;
+        
+        IndexMultimap(int[] nums) {
+            int n = nums.length;
+            groupOf = new IntIntHashMap(n);
+            
+            // Pass 1: give each distinct value a group id and count its occurrences
+            int[] groupIds = new int[n];
+            int[] counts = new int[n + 1];
+            int groups = 0;
+            for (int i = 0; i < n; i++) {
+                int g = groupOf.get(nums[i], ABSENT);
+                if (g == ABSENT) {
+                    g = groups++;
+                    groupOf.put(nums[i], g);
+                }
+                groupIds[i] = g;
+                counts[g + 1]++;
+            }
+            
+            // Prefix sums turn counts into slice boundaries
+            groupStart = Arrays.copyOf(counts, groups + 1);
+            for (int g = 1; g <= groups; g++) {
+                groupStart[g] += groupStart[g - 1];
+            }
+            
+            // Pass 2: fill each slice in index order, so every list is ascending
+            indices = new int[n];
+            int[] next = Arrays.copyOf(groupStart, groups);
+            for (int i = 0; i < n; i++) {
+                indices[next[groupIds[i]]++] = i;
+            }
+        }
+        
+        /**
+         * Group id of a value, or -1 if it does not occur
+         */
+        int group(int value) {
+            return groupOf.get(value, ABSENT);
+        }
+    }
+    
+    /**
+     * Splittable source of encoded pairs. Each spliterator owns a range of
+     * second indices [current, end); for every j it walks the ascending index
+     * list of target - nums[j] and emits entries while they are below j.
+     */
+    private static final class PairSpliterator implements Spliterator.OfLong {
+        private final IndexMultimap index;
+        private final int[] nums;
+        private final int target;
+        private int current; // second index being expanded
+        private final int end;
+        private int pos;      // next candidate in index.indices
+        private int groupEnd; // end of the current candidate list
+        
+        PairSpliterator(IndexMultimap index, int[] nums, int target, int from, int end) {
+            this.index = index;
+            this.nums = nums;
+            this.target = target;
+            this.current = from - 1; // nothing loaded yet
+            this.end = end;
+        }
+        
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            while (true) {
+                if (pos < groupEnd) {
+                    int i = index.indices[pos];
+                    if (i < current) {
+                        pos++;
+                        action.accept(((long) i << 32) | current);
+                        return true;
+                    }
+                    pos = groupEnd; // the rest of the list lies at or after j
+                }
+                if (current + 1 >= end) {
+                    current = end;
+                    return false;
+                }
+                current++;
+                int g = index.group(target - nums[current]);
+                if (g >= 0) {
+                    pos = index.groupStart[g];
+                    groupEnd = index.groupStart[g + 1];
+                }
+            }
+        }
+        
+        @Override
+        public Spliterator.OfLong trySplit() {
+            int from = current + 1; // first j not yet started
+            int mid = (from + end) >>> 1;
+            if (mid <= from) {
+                return null;
+            }
+            // The prefix takes over the in-progress j and [from, mid), keeping encounter order
+            PairSpliterator prefix = new PairSpliterator(index, nums, target, from, mid);
+            prefix.current = current;
+            prefix.pos = pos;
+            prefix.groupEnd = groupEnd;
+            
+            // This spliterator continues with [mid, end)
+            current = mid - 1;
+            pos = 0;
+            groupEnd = 0;
+            return prefix;
+        }
+        
+        /**
+         * Second indices not yet started, plus the in-progress one if it still
+         * has candidates; the pair count itself is unknown, so this is not SIZED
+         */
+        @Override
+        public long estimateSize() {
+            return Math.max(0, end - current - 1) + (pos < groupEnd ? 1 : 0);
+        }
+        
+        /**
+         * Not IMMUTABLE: nums is the caller's array and is only required not to change
+         */
+        @Override
+        public int characteristics() {
+            return ORDERED | DISTINCT | NONNULL;
+        }
+    }
+    
+    /**
+     * Reusable two-sum state: one IntIntHashMap that is cleared between calls
+     */
+    static final class Solver {
+        private static final int NOT_FOUND = -1;
+        
+        /** Largest table kept between calls; covers the problem's n <= 10^4 */
+        private static final int MAX_RETAINED_CAPACITY = 1 << 15;
+        
+        private final IntIntHashMap numToIndex = new IntIntHashMap(16);
+        
+        int[] solve(int[] nums, int target) {
+            numToIndex.clear();
+            numToIndex.ensureCapacity(nums.length);
+            
+            try {
+                for (int i = 0; i < nums.length; i++) {
+                    // One probe answers both "is it there?" and "where?"
+                    int j = numToIndex.get(target - nums[i], NOT_FOUND);
+                    if (j != NOT_FOUND) {
+                        return new int[]{j, i};
+                    }
+                    numToIndex.put(nums[i], i);
+                }
+            } finally {
+                // One huge input must not pin a huge table to this thread for good
+                numToIndex.shrinkTo(MAX_RETAINED_CAPACITY);
+            }
+            
+            throw new IllegalArgumentException("No two sum solution exists");
+        }
+    }
+    
+    /**
+     * Open-addressing long -> int hash map with linear probing, used by the
+     * 64-bit twoSum. Occupancy is a separate flag, so every long is a valid key.
+     */
+    static final class LongIntHashMap {
+        private long[] keys;
+        private int[] values;
+        private boolean[] used;
+        private int mask;
+        private int size;
+        
+        LongIntHashMap(int expectedSize) {
+            allocate(PrimitiveHashing.tableSizeFor(expectedSize));
+        }
+        
+        int get(long key, int missing) {
+            int slot = PrimitiveHashing.mix(key) & mask;
+            while (used[slot]) {
+                if (keys[slot] == key) {
+                    return values[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            return missing;
+        }
+        
+        void put(long key, int value) {
+            int slot = PrimitiveHashing.mix(key) & mask;
+            while (used[slot]) {
+                if (keys[slot] == key) {
+                    values[slot] = value;
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            used[slot] = true;
+            keys[slot] = key;
+            values[slot] = value;
+            if (++size > (mask + 1) >>> 1) {
+                rehash(PrimitiveHashing.grownCapacity(keys.length));
+            }
+        }
+        
+        private void rehash(int newCapacity) {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            boolean[] oldUsed = used;
+            allocate(newCapacity);
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldUsed[i]) {
+                    int slot = PrimitiveHashing.mix(oldKeys[i]) & mask;
+                    while (used[slot]) {
+                        slot = (slot + 1) & mask;
+                    }
+                    used[slot] = true;
+                    keys[slot] = oldKeys[i];
+                    values[slot] = oldValues[i];
+                }
+            }
+        }
+        
+        private void allocate(int capacity) {
+            keys = new long[capacity];
+            values = new int[capacity];
+            used = new boolean[capacity];
+            mask = capacity - 1;
+        }
+    }
+    
+    /**
+     * Open-addressing int -> int hash map with linear probing.
+     * 
+     * Keys and values sit in parallel primitive arrays. Each slot also carries
+     * a generation stamp: a slot is occupied only if its stamp equals the
+     * current generation, so clear() just bumps the generation in O(1) and
+     * the arrays are reused without being wiped.
+     */
+    static final class IntIntHashMap {
+        private int[] keys;
+        private int[] values;
+        private int[] stamps;
+        private int generation = 1;
+        private int mask;
+        private int size;
+        
+        IntIntHashMap(int expectedSize) {
+            allocate(PrimitiveHashing.tableSizeFor(expectedSize));
+        }
+        
+        /**
+         * Looks up a key with a single probe sequence
+         * @param key - key to look up
+         * @param missing - value returned when the key is absent
+         * @return int - the mapped value, or missing
+         */
+        int get(int key, int missing) {
+            int slot = PrimitiveHashing.mix(key) & mask;
+            while (stamps[slot] == generation) {
+                if (keys[slot] == key) {
+                    return values[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            return missing;
+        }
+        
+        /**
+         * Associates value with key, replacing any previous value
+         */
+        void put(int key, int value) {
+            int slot = PrimitiveHashing.mix(key) & mask;
+            while (stamps[slot] == generation) {
+                if (keys[slot] == key) {
+                    values[slot] = value;
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = value;
+            stamps[slot] = generation;
+            if (++size > (mask + 1) >>> 1) {
+                rehash(PrimitiveHashing.grownCapacity(keys.length));
+            }
+        }
+        
+        int size() {
+            return size;
+        }
+        
+        /**
+         * Empties the map in O(1) by starting a new generation
+         */
+        void clear() {
+            size = 0;
+            if (++generation == 0) {
+                // Stamps wrapped around: wipe them once so stale slots stay empty
+                Arrays.fill(stamps, 0);
+                generation = 1;
+            }
+        }
+        
+        /**
+         * Grows the table up front so expectedSize puts never trigger a rehash
+         */
+        void ensureCapacity(int expectedSize) {
+            int wanted = PrimitiveHashing.tableSizeFor(expectedSize);
+            if (wanted > keys.length) {
+                rehash(wanted);
+            }
+        }
+        
+        /**
+         * Replaces a table longer than maxCapacity with an empty one of
+         * maxCapacity slots; a table within the limit is left untouched
+         * @param maxCapacity - largest table length to keep (a power of two)
+         */
+        void shrinkTo(int maxCapacity) {
+            if (keys.length > maxCapacity) {
+                allocate(maxCapacity);
+                generation = 1;
+                size = 0;
+            }
+        }
+        
+        private void rehash(int newCapacity) {
+            int[] oldKeys = keys;
+            int[] oldValues = values;
+            int[] oldStamps = stamps;
+            int oldGeneration = generation;
+            
+            allocate(newCapacity);
+            generation = 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldStamps[i] == oldGeneration) {
+                    int slot = PrimitiveHashing.mix(oldKeys[i]) & mask;
+                    while (stamps[slot] == generation) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = oldKeys[i];
+                    values[slot] = oldValues[i];
+                    stamps[slot] = generation;
+                }
+            }
+        }
+        
+        private void allocate(int capacity) {
+            keys = new int[capacity];
+            values = new int[capacity];
+            stamps = new int[capacity];
+            mask = capacity - 1;
+        }
+    }
+    
     /**
      * Test cases and example usage
      */
@@ -133,5 +778,44 @@ public class TwoSum {
         System.out.println("\\nVerifying with brute force:");
         int[] bruteForcResult = solution.twoSumBruteForce(nums1, target1);
         System.out.println("Brute Force Test 1: " + Arrays.toString(bruteForcResult));
+        
+        // Verify with the lane-blocked brute force
+        int[] lanesResult = solution.twoSumBruteForceLanes(nums1, target1);
+        System.out.println("Lane-Blocked Brute Force Test 1: " + Arrays.toString(lanesResult));
+        
+        // Adaptive front end: a dense value range gets a direct index table
+        int[] denseNums = new int[1000];
+        for (int i = 0; i < denseNums.length; i++) {
+            denseNums[i] = (i * 7919) % 1000; // a permutation of 0..999
+        }
+        int[] adaptiveResult = solution.twoSumAdaptive(denseNums, 1997, PairSumThresholds.defaults());
+        System.out.println("Dense Input Adaptive: " + Arrays.toString(adaptiveResult)); // Expected: [321, 642] (999 + 998)
+        
+        // Known-sorted input can opt into two pointers (no hashing)
+        int[] sortedNums = new int[30];
+        for (int i = 0; i < sortedNums.length; i++) {
+            sortedNums[i] = 1 << i; // distinct powers of two: every sum is unique
+        }
+        int[] sortedResult = solution.twoSumSorted(sortedNums, (1 << 3) + (1 << 17));
+        System.out.println("Sorted Input: " + Arrays.toString(sortedResult)); // Expected: [3, 17]
+        
+        // 64-bit input: the int version would overflow on these values
+        long[] ids = {3_000_000_000L, 7L, 5_000_000_000L};
+        int[] longResult = solution.twoSum(ids, 8_000_000_000L);
+        System.out.println("Long Test: " + Arrays.toString(longResult)); // Expected: [0, 2]
+        
+        // Every pair, enumerated lazily
+        int[] repeated = {1, 5, 3, 3, 1, 5, 3};
+        String pairs = solution.allPairs(repeated, 6)
+                .map(Arrays::toString)
+                .collect(Collectors.joining(" "));
+        System.out.println("All pairs summing to 6: " + pairs);
+        // Expected: [0, 1] [2, 3] [1, 4] [0, 5] [4, 5] [2, 6] [3, 6]
+        long parallelCount = solution.allPairsEncoded(new int[20_000], 0).parallel().count();
+        System.out.println("Pairs in 20,000 zeros (parallel): " + parallelCount); // Expected: 199990000
+        
+        // Verify with the boxed HashMap approach
+        int[] hashMapResult = solution.twoSumHashMap(nums1, target1);
+        System.out.println("HashMap Test 1: " + Arrays.toString(hashMapResult));
     }
 }
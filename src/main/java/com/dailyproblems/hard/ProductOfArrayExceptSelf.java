@@ -45,10 +45,20 @@
 
 package com.dailyproblems.hard;
 
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
 import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.IntStream;
 
 public class ProductOfArrayExceptSelf {
     
+    /** Below this length the parallel scan falls back to the two-pass loop */
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+    
+    /** Elements per block of the parallel scan (64 KB of ints, stays in cache between sweeps) */
+    private static final int SCAN_BLOCK = 1 << 14;
+    
     /**
      * Calculates product of array except self without division (Space Optimized)
      * @param nums - input array of integers
@@ -58,23 +68,402 @@ public class ProductOfArrayExceptSelf {
      * Space Complexity: O(1) - constant extra space (excluding the output array)
      */
     public int[] productExceptSelf(int[] nums) {
-        int n = nums.length;
-        int[] result = new int[n];
+        int[] result = new int[nums.length];
+        productExceptSelf(nums, 0, nums.length, result, 0);
+        return result;
+    }
+    
+    /**
+     * productExceptSelf into a caller-supplied output range, without allocating
+     * @param nums - input array
+     * @param offset - start of the input range
+     * @param length - number of elements in the range
+     * @param result - output array
+     * @param resultOffset - where result[resultOffset .. resultOffset + length) is written
+     * @throws IllegalArgumentException if the ranges overlap without coinciding
+     * 
+     * If the output range is exactly the input range the result is computed in
+     * place (see productExceptSelfInPlace); any other overlap is rejected.
+     * 
+     * Time Complexity: O(n) - two passes; O(n log n) when in place
+     * Space Complexity: O(1) - no allocation
+     */
+    public void productExceptSelf(int[] nums, int offset, int length, int[] result, int resultOffset) {
+        checkRange(nums.length, offset, length);
+        checkRange(result.length, resultOffset, length);
+        if (nums == result && offset != resultOffset
+                && offset < resultOffset + length && resultOffset < offset + length) {
+            throw new IllegalArgumentException("Input and output ranges overlap without coinciding");
+        }
+        if (nums == result && offset == resultOffset) {
+            productExceptSelfInPlace(nums, offset, length);
+            return;
+        }
         
         // First pass: calculate left products
         // result[i] = product of all elements to the left of i
-        result[0] = 1; // No elements to the left of index 0
-        for (int i = 1; i < n; i++) {
-            result[i] = result[i - 1] * nums[i - 1];
+        int leftProduct = 1;
+        for (int i = 0; i < length; i++) {
+            result[resultOffset + i] = leftProduct;
+            leftProduct *= nums[offset + i];
         }
         
         // Second pass: multiply by right products
         // Use a variable to track the running product from right
         int rightProduct = 1;
-        for (int i = n - 1; i >= 0; i--) {
-            result[i] = result[i] * rightProduct;
+        for (int i = length - 1; i >= 0; i--) {
+            result[resultOffset + i] *= rightProduct;
+            rightProduct *= nums[offset + i];
+        }
+    }
+    
+    /**
+     * productExceptSelf between IntBuffers, e.g. direct (off-heap) buffers, without allocating
+     * @param nums - input, from position to limit
+     * @param result - output, written from its position; must have at least nums.remaining() left
+     * @throws IllegalArgumentException if result is too small
+     * 
+     * Uses absolute get/put, so neither buffer's position changes. Passing the
+     * same buffer object twice computes in place; otherwise the two buffers
+     * must not share memory.
+     * 
+     * Time Complexity: O(n) - two passes; O(n log n) when in place
+     * Space Complexity: O(1) - no allocation
+     */
+    public void productExceptSelf(IntBuffer nums, IntBuffer result) {
+        int length = nums.remaining();
+        if (result.remaining() < length) {
+            throw new IllegalArgumentException("Output has room for " + result.remaining()
+                    + " ints, input has " + length);
+        }
+        if (nums == result) {
+            productExceptSelfInPlace(nums);
+            return;
+        }
+        int in = nums.position();
+        int out = result.position();
+        
+        int leftProduct = 1;
+        for (int i = 0; i < length; i++) {
+            result.put(out + i, leftProduct);
+            leftProduct *= nums.get(in + i);
+        }
+        
+        int rightProduct = 1;
+        for (int i = length - 1; i >= 0; i--) {
+            result.put(out + i, result.get(out + i) * rightProduct);
+            rightProduct *= nums.get(in + i);
+        }
+    }
+    
+    /**
+     * Overwrites nums[offset .. offset + length) with its products except self
+     * @param nums - array holding the range
+     * @param offset - start of the range
+     * @param length - number of elements in the range
+     * 
+     * The two-pass loop needs nums[i] again after result[i] is written, so it
+     * cannot run in place. Instead: split the range in half, take the product
+     * of each half, and recurse into each half with the product of everything
+     * outside it as an extra factor. A single element becomes that factor.
+     * 
+     * Time Complexity: O(n log n) - each level of the recursion scans the range once
+     * Space Complexity: O(log n) - recursion depth, no allocation
+     */
+    public void productExceptSelfInPlace(int[] nums, int offset, int length) {
+        checkRange(nums.length, offset, length);
+        if (length > 0) {
+            fillInPlace(nums, offset, offset + length, 1);
+        }
+    }
+    
+    /**
+     * In-place products except self over nums' position to limit (see productExceptSelfInPlace(int[], int, int))
+     */
+    public void productExceptSelfInPlace(IntBuffer nums) {
+        if (nums.hasRemaining()) {
+            fillInPlace(nums, nums.position(), nums.limit(), 1);
+        }
+    }
+    
+    /**
+     * Replaces nums[from, to) by outside * (product of the range except self)
+     */
+    private static void fillInPlace(int[] nums, int from, int to, int outside) {
+        if (to - from == 1) {
+            nums[from] = outside;
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        int leftProduct = 1;
+        for (int i = from; i < mid; i++) {
+            leftProduct *= nums[i];
+        }
+        int rightProduct = 1;
+        for (int i = mid; i < to; i++) {
             rightProduct *= nums[i];
         }
+        fillInPlace(nums, from, mid, outside * rightProduct);
+        fillInPlace(nums, mid, to, outside * leftProduct);
+    }
+    
+    private static void fillInPlace(IntBuffer nums, int from, int to, int outside) {
+        if (to - from == 1) {
+            nums.put(from, outside);
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        int leftProduct = 1;
+        for (int i = from; i < mid; i++) {
+            leftProduct *= nums.get(i);
+        }
+        int rightProduct = 1;
+        for (int i = mid; i < to; i++) {
+            rightProduct *= nums.get(i);
+        }
+        fillInPlace(nums, from, mid, outside * rightProduct);
+        fillInPlace(nums, mid, to, outside * leftProduct);
+    }
+    
+    private static void checkRange(int arrayLength, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > arrayLength - length) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length
+                    + ") out of bounds for length " + arrayLength);
+        }
+    }
+    
+    /**
+     * Parallel version of productExceptSelf using a blocked prefix/suffix scan
+     * @param nums - input array of integers
+     * @return int[] - array where each element is product of all others except itself
+     * 
+     * Pass 1: every block computes the product of its elements, in parallel.
+     * Between the passes the block products are scanned sequentially into
+     * "product of all blocks before" and "product of all blocks after".
+     * Pass 2: every block runs the two-pass loop of productExceptSelf on its own
+     * slice, seeded with those two products, in parallel.
+     * 
+     * No division is involved, so zeros need no special handling. int
+     * multiplication wraps associatively, so the output is identical to
+     * productExceptSelf even when products overflow.
+     * 
+     * Time Complexity: O(n / cores + n / SCAN_BLOCK)
+     * Space Complexity: O(n / SCAN_BLOCK) - two products per block
+     */
+    public int[] productExceptSelfParallel(int[] nums) {
+        int n = nums.length;
+        if (n < PARALLEL_THRESHOLD) {
+            return productExceptSelf(nums);
+        }
+        int blocks = (n + SCAN_BLOCK - 1) / SCAN_BLOCK;
+        int[] result = new int[n];
+        
+        // Pass 1: local product of each block
+        int[] blockProduct = new int[blocks];
+        IntStream.range(0, blocks).parallel().forEach(b -> {
+            int product = 1;
+            for (int i = b * SCAN_BLOCK, end = Math.min(n, i + SCAN_BLOCK); i < end; i++) {
+                product *= nums[i];
+            }
+            blockProduct[b] = product;
+        });
+        
+        // Exclusive prefix and suffix products over the blocks
+        int[] before = new int[blocks];
+        int[] after = new int[blocks];
+        int running = 1;
+        for (int b = 0; b < blocks; b++) {
+            before[b] = running;
+            running *= blockProduct[b];
+        }
+        running = 1;
+        for (int b = blocks - 1; b >= 0; b--) {
+            after[b] = running;
+            running *= blockProduct[b];
+        }
+        
+        // Pass 2: two-pass fill inside each block
+        IntStream.range(0, blocks).parallel().forEach(b -> {
+            int start = b * SCAN_BLOCK;
+            int end = Math.min(n, start + SCAN_BLOCK);
+            int leftProduct = before[b];
+            for (int i = start; i < end; i++) {
+                result[i] = leftProduct;
+                leftProduct *= nums[i];
+            }
+            int rightProduct = after[b];
+            for (int i = end - 1; i >= start; i--) {
+                result[i] *= rightProduct;
+                rightProduct *= nums[i];
+            }
+        });
+        
+        return result;
+    }
+    
+    /**
+     * Exact version of productExceptSelf over long values, with overflow detection
+     * @param nums - input array of longs
+     * @return long[] - array where each element is product of all others except itself
+     * @throws ArithmeticException if some product except self does not fit in a long
+     * 
+     * Same two passes as productExceptSelf, but on magnitudes with the sign kept
+     * apart: the passes multiply |nums[i]| as unsigned longs, and the sign of
+     * each result is the parity of the negative factors other than nums[i].
+     * Working on magnitudes matters because a signed running product can
+     * leave the long range and come back (Long.MIN_VALUE * -1 * -1).
+     * Magnitudes never shrink except to zero, so "above 2^63" is a real and
+     * sticky overflow. Every multiplication is checked with Math.multiplyHigh.
+     * 
+     * A prefix or suffix that overflows is not an error by itself: if the
+     * other side contains a zero the result is an exact 0. An overflowed left
+     * product can only occur on one index range (from the first overflow up to
+     * the first zero after it), which is tracked instead of a stored value.
+     * 
+     * Time Complexity: O(n) - two passes through the array
+     * Space Complexity: O(1) - excluding the output array
+     */
+    public long[] productExceptSelfExact(long[] nums) {
+        return exactProducts(nums, null, nums.length);
+    }
+    
+    /**
+     * Both passes of productExceptSelfExact over exactly one of longs or ints
+     * (the other is null); int elements are widened as they are read, so int
+     * input needs no long[] copy
+     */
+    private static long[] exactProducts(long[] longs, int[] ints, int n) {
+        long[] result = new long[n];
+        
+        // First pass: |left product| as unsigned, or the range where it exceeds 2^63
+        long leftMagnitude = 1;
+        boolean leftOverflow = false;
+        int leftOverflowFrom = n;
+        int leftOverflowTo = n - 1;
+        boolean negative = false; // parity of negative factors in the whole array
+        for (int i = 0; i < n; i++) {
+            result[i] = leftMagnitude;
+            long value = longs != null ? longs[i] : ints[i];
+            long magnitude = magnitude(value);
+            negative ^= value < 0;
+            if (leftOverflow) {
+                if (magnitude == 0) {
+                    leftOverflow = false;
+                    leftOverflowTo = i;
+                    leftMagnitude = 0;
+                }
+            } else {
+                long product = leftMagnitude * magnitude;
+                if (exceedsTwoTo63(leftMagnitude, magnitude, product)) {
+                    leftOverflow = true;
+                    leftOverflowFrom = i + 1;
+                } else {
+                    leftMagnitude = product;
+                }
+            }
+        }
+        
+        // Second pass: combine with the running right magnitude and apply the sign
+        long rightMagnitude = 1;
+        boolean rightOverflow = false;
+        for (int i = n - 1; i >= 0; i--) {
+            long value = longs != null ? longs[i] : ints[i];
+            boolean leftSideOverflow = i >= leftOverflowFrom && i <= leftOverflowTo;
+            long left = result[i];
+            if ((!leftSideOverflow && left == 0) || (!rightOverflow && rightMagnitude == 0)) {
+                result[i] = 0;
+            } else if (leftSideOverflow || rightOverflow) {
+                throw new ArithmeticException("Product except index " + i + " overflows long");
+            } else {
+                boolean resultNegative = negative ^ (value < 0);
+                long product = left * rightMagnitude;
+                // A magnitude of exactly 2^63 fits only as Long.MIN_VALUE
+                if (exceedsTwoTo63(left, rightMagnitude, product) || (product == Long.MIN_VALUE && !resultNegative)) {
+                    throw new ArithmeticException("Product except index " + i + " overflows long");
+                }
+                result[i] = resultNegative ? -product : product;
+            }
+            
+            long magnitude = magnitude(value);
+            if (rightOverflow) {
+                if (magnitude == 0) {
+                    rightOverflow = false;
+                    rightMagnitude = 0;
+                }
+            } else {
+                long product = rightMagnitude * magnitude;
+                if (exceedsTwoTo63(rightMagnitude, magnitude, product)) {
+                    rightOverflow = true;
+                } else {
+                    rightMagnitude = product;
+                }
+            }
+        }
+        
+        return result;
+    }
+    
+    /**
+     * |x| as an unsigned long; Long.MIN_VALUE maps to 2^63
+     */
+    private static long magnitude(long x) {
+        return x < 0 ? -x : x;
+    }
+    
+    /**
+     * True if the unsigned 128-bit product a * b, whose low word is product, is above 2^63
+     */
+    private static boolean exceedsTwoTo63(long a, long b, long product) {
+        // Unsigned high word from the signed one
+        long high = Math.multiplyHigh(a, b) + ((a >> 63) & b) + ((b >> 63) & a);
+        return high != 0 || Long.compareUnsigned(product, Long.MIN_VALUE) > 0;
+    }
+    
+    /**
+     * Exact long results for int input (see productExceptSelfExact(long[]))
+     * @param nums - input array of integers
+     * @return long[] - array where each element is product of all others except itself
+     * @throws ArithmeticException if some product except self does not fit in a long
+     * 
+     * Time Complexity: O(n) - two passes through the array
+     * Space Complexity: O(1) - excluding the output array
+     */
+    public long[] productExceptSelfExact(int[] nums) {
+        return exactProducts(null, nums, nums.length);
+    }
+    
+    /**
+     * Product of array except self modulo m, e.g. for polynomial hashing or fingerprints
+     * @param nums - input array of integers (negative values are reduced into [0, m))
+     * @param modulus - modulus m, from 1 to Integer.MAX_VALUE (2^31 - 1 is prime)
+     * @return int[] - result[i] = product of all others except nums[i], mod m, in [0, m)
+     * 
+     * Same two passes as productExceptSelf with a reduction after every step.
+     * Both factors are below 2^31, so their product fits in a long and no
+     * BigInteger is needed. No division (no modular inverse) is used, so the
+     * modulus does not have to be prime and zeros need no special handling.
+     * 
+     * Time Complexity: O(n) - two passes through the array
+     * Space Complexity: O(1) - excluding the output array
+     */
+    public int[] productExceptSelfMod(int[] nums, int modulus) {
+        if (modulus < 1) {
+            throw new IllegalArgumentException("Modulus must be positive: " + modulus);
+        }
+        int n = nums.length;
+        int[] result = new int[n];
+        
+        long leftProduct = 1 % modulus;
+        for (int i = 0; i < n; i++) {
+            result[i] = (int) leftProduct;
+            leftProduct = leftProduct * Math.floorMod(nums[i], modulus) % modulus;
+        }
+        
+        long rightProduct = 1 % modulus;
+        for (int i = n - 1; i >= 0; i--) {
+            result[i] = (int) (result[i] * rightProduct % modulus);
+            rightProduct = rightProduct * Math.floorMod(nums[i], modulus) % modulus;
+        }
         
         return result;
     }
@@ -159,6 +548,112 @@ public class ProductOfArrayExceptSelf {
         return result;
     }
     
+    /**
+     * Builds an updatable index over nums (see ProductExceptSelfIndex)
+     * @param nums - initial values (copied)
+     * @return ProductExceptSelfIndex - index answering product-except-self queries
+     */
+    public ProductExceptSelfIndex index(int[] nums) {
+        return new ProductExceptSelfIndex(nums);
+    }
+    
+    /**
+     * Product of all elements except i, for a vector that changes over time.
+     * 
+     * A segment tree holds the products of the non-zero values, with every
+     * zero stored as a 1 leaf, and the zeros are only counted. query(i) is 0
+     * when any other element is zero; otherwise it multiplies the siblings on
+     * the path from leaf i to the root, which together cover every leaf but i.
+     * No division is involved, so results match productExceptSelf on the
+     * current values, including int wraparound.
+     * 
+     * Time Complexity: O(n / cores) to build, O(log n) per update and query
+     * Space Complexity: O(n)
+     */
+    public static final class ProductExceptSelfIndex {
+        private final int[] values;
+        /** tree[1] is the root, leaves start at tree[leafBase]; padding leaves are 1 */
+        private final int[] tree;
+        private final int leafBase;
+        private int zeroCount;
+        
+        ProductExceptSelfIndex(int[] nums) {
+            int n = nums.length;
+            values = nums.clone();
+            leafBase = Integer.highestOneBit(Math.max(1, n) * 2 - 1);
+            tree = new int[2 * leafBase];
+            Arrays.fill(tree, leafBase + n, tree.length, 1);
+            for (int i = 0; i < n; i++) {
+                if (values[i] == 0) {
+                    zeroCount++;
+                }
+                tree[leafBase + i] = nonZeroFactor(values[i]);
+            }
+            
+            // Bottom-up, one level at a time; nodes of a level are independent
+            for (int levelStart = leafBase >>> 1; levelStart >= 1; levelStart >>>= 1) {
+                int start = levelStart;
+                IntStream level = IntStream.range(start, 2 * start);
+                if (start >= PARALLEL_THRESHOLD) {
+                    level = level.parallel();
+                }
+                level.forEach(node -> tree[node] = tree[2 * node] * tree[2 * node + 1]);
+            }
+        }
+        
+        /**
+         * Sets element i to value
+         * Time Complexity: O(log n)
+         */
+        public void update(int i, int value) {
+            Objects.checkIndex(i, values.length);
+            if (values[i] == 0) {
+                zeroCount--;
+            }
+            if (value == 0) {
+                zeroCount++;
+            }
+            values[i] = value;
+            
+            int node = leafBase + i;
+            tree[node] = nonZeroFactor(value);
+            for (node >>>= 1; node >= 1; node >>>= 1) {
+                tree[node] = tree[2 * node] * tree[2 * node + 1];
+            }
+        }
+        
+        /**
+         * Product of all elements except element i
+         * Time Complexity: O(log n)
+         */
+        public int query(int i) {
+            Objects.checkIndex(i, values.length);
+            if (zeroCount - (values[i] == 0 ? 1 : 0) > 0) {
+                return 0;
+            }
+            int product = 1;
+            for (int node = leafBase + i; node > 1; node >>>= 1) {
+                product *= tree[node ^ 1];
+            }
+            return product;
+        }
+        
+        /**
+         * Current value of element i
+         */
+        public int get(int i) {
+            return values[i];
+        }
+        
+        public int size() {
+            return values.length;
+        }
+        
+        private static int nonZeroFactor(int value) {
+            return value == 0 ? 1 : value;
+        }
+    }
+    
     /**
      * Helper method to print array for testing
      */
@@ -228,6 +723,75 @@ public class ProductOfArrayExceptSelf {
         int[] divisionResult1 = solution.productExceptSelfWithDivision(nums1);
         solution.printArray("Division Test 1", divisionResult1);
         
+        System.out.println("\n--- Caller-supplied buffers ---");
+        // Range of a larger array into a reused output array
+        int[] batch = {9, 9, 1, 2, 3, 4, 5, 9};
+        int[] output = new int[8];
+        solution.productExceptSelf(batch, 2, 5, output, 0);
+        solution.printArray("Range [2, 7) of " + Arrays.toString(batch), Arrays.copyOf(output, 5));
+        // Expected: [120, 60, 40, 30, 24]
+        
+        // In place
+        int[] inPlace = {-1, 2, -3, 4};
+        solution.productExceptSelfInPlace(inPlace, 0, inPlace.length);
+        solution.printArray("In place [-1, 2, -3, 4]", inPlace);
+        // Expected: [-24, 12, -8, 6]
+        
+        // Off-heap: direct buffers, no heap arrays involved
+        IntBuffer direct = ByteBuffer.allocateDirect(4 * Integer.BYTES).asIntBuffer().put(new int[]{1, 0, 3, 4});
+        direct.flip();
+        IntBuffer directOut = ByteBuffer.allocateDirect(4 * Integer.BYTES).asIntBuffer();
+        solution.productExceptSelf(direct, directOut);
+        int[] fromBuffer = new int[4];
+        directOut.get(fromBuffer);
+        solution.printArray("Direct buffer [1, 0, 3, 4]", fromBuffer);
+        // Expected: [0, 12, 0, 0]
+        
+        System.out.println("\n--- Exact long products ---");
+        // 2^40 * 2^20 wraps to 0 as int, exact as long
+        int[] nums7 = {1 << 20, 1 << 20, 1 << 20, 3};
+        solution.printArray("Test 7 Input", nums7);
+        System.out.println("Test 7 int Output: " + Arrays.toString(solution.productExceptSelf(nums7)));
+        System.out.println("Test 7 Exact Output: " + Arrays.toString(solution.productExceptSelfExact(nums7)));
+        // Expected: [3298534883328, 3298534883328, 3298534883328, 1152921504606846976]
+        
+        // Prefixes overflow, but every index has a zero among the others
+        long[] nums8 = {Long.MAX_VALUE, 2, 0, 0};
+        System.out.println("Test 8 Input: " + Arrays.toString(nums8));
+        System.out.println("Test 8 Exact Output: " + Arrays.toString(solution.productExceptSelfExact(nums8)));
+        // Expected: [0, 0, 0, 0]
+        
+        long[] nums9 = {Long.MAX_VALUE, 2, 0};
+        System.out.println("Test 9 Input: " + Arrays.toString(nums9));
+        try {
+            solution.productExceptSelfExact(nums9);
+        } catch (ArithmeticException e) {
+            System.out.println("Test 9 Exact Output: ArithmeticException - " + e.getMessage());
+            // Expected: Product except index 2 overflows long
+        }
+        
+        System.out.println("\n--- Modular products ---");
+        int[] nums10 = {Integer.MAX_VALUE - 1, -5, 123456789, 0, 7};
+        int prime = Integer.MAX_VALUE; // 2^31 - 1
+        solution.printArray("Test 10 Input", nums10);
+        solution.printArray("Test 10 Output mod 2^31-1", solution.productExceptSelfMod(nums10, prime));
+        // Expected: [0, 0, 0, 26020321, 0]
+        
+        System.out.println("\n--- Updatable index ---");
+        ProductExceptSelfIndex index = solution.index(new int[]{1, 2, 3, 4, 5});
+        System.out.println("query(0) on [1, 2, 3, 4, 5]: " + index.query(0)); // Expected: 120
+        index.update(2, 0);
+        System.out.println("After update(2, 0): query(2) = " + index.query(2) + ", query(4) = " + index.query(4));
+        // Expected: query(2) = 40, query(4) = 0
+        index.update(4, 0);
+        System.out.println("After update(4, 0): query(2) = " + index.query(2)); // Expected: 0
+        index.update(2, 10);
+        index.update(4, 6);
+        System.out.println("After update(2, 10), update(4, 6): query(0) = " + index.query(0)); // Expected: 480
+        
+        System.out.println("\n--- Comparing with parallel blocked scan ---");
+        solution.printArray("Parallel Test 3", solution.productExceptSelfParallel(nums3));
+        
         System.out.println("\\n--- Performance Analysis ---");
         System.out.println("✓ Optimized Solution: O(n) time, O(1) extra space");
         System.out.println("✓ Verbose Solution: O(n) time, O(n) extra space");
@@ -44,11 +44,41 @@
 
 package com.dailyproblems.hard;
 
+import com.dailyproblems.util.PrimitiveHashing;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.IntStream;
 
 public class SingleNumberII {
     
+    /** Elements per leaf task in the fork-join reduction */
+    private static final int PARALLEL_LEAF_SIZE = 1 << 16;
+    
+    /** Ints copied out of an IntBuffer per bulk get when bit counting */
+    private static final int BIT_COUNT_CHUNK = 1 << 14;
+    
+    /** Digit width of the radix sort in singleNumberRadixSort */
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX = 1 << RADIX_BITS;
+    
+    /** Bytes per fork-join window of the file-based singleNumber */
+    public static final long DEFAULT_WINDOW_BYTES = 64L << 20;
+    
     /**
      * Finds the single number using bit manipulation (Optimal Solution)
      * @param nums - array where every number appears 3 times except one
@@ -73,6 +103,325 @@ public class SingleNumberII {
         return ones;
     }
     
+    /**
+     * Parallel version of singleNumber using fork-join
+     * @param nums - array where every number appears 3 times except one
+     * @return int - the number that appears only once
+     * 
+     * The (ones, twos) pair is a per-bit counter mod 3. Counters add
+     * associatively, so each chunk is reduced on its own and the partial
+     * counters are combined with a bit-sliced mod-3 adder (Mod3Accumulator.merge).
+     * 
+     * Time Complexity: O(n / cores + log n)
+     * Space Complexity: O(log n) - fork-join recursion depth
+     */
+    public int singleNumberParallel(int[] nums) {
+        return ForkJoinPool.commonPool().invoke(new Mod3Task(nums, 0, nums.length)).result();
+    }
+    
+    /**
+     * Stream version: reduces any (parallel) IntStream with the mod-3 counter
+     * @param nums - stream where every number appears 3 times except one
+     * @return int - the number that appears only once
+     */
+    public int singleNumber(IntStream nums) {
+        return nums.collect(Mod3Accumulator::new, Mod3Accumulator::accept, Mod3Accumulator::merge).result();
+    }
+    
+    /**
+     * Finds the single number in a binary file of int32 values
+     * @param file - file of 4-byte ints, every value 3 times except one
+     * @param order - byte order of the ints in the file
+     * @return int - the number that appears only once (0 for an empty file)
+     * @throws IOException if the file cannot be read or is not a whole number of ints
+     * 
+     * See singleNumber(Path, ByteOrder, long); uses DEFAULT_WINDOW_BYTES windows.
+     */
+    public int singleNumber(Path file, ByteOrder order) throws IOException {
+        return singleNumber(file, order, DEFAULT_WINDOW_BYTES);
+    }
+    
+    /**
+     * Finds the single number in a binary file of int32 values, which may be larger than RAM
+     * @param file - file of 4-byte ints, every value 3 times except one
+     * @param order - byte order of the ints in the file
+     * @param windowBytes - bytes per fork-join window (rounded down to whole ints)
+     * @return int - the number that appears only once (0 for an empty file)
+     * @throws IOException if the file cannot be read or is not a whole number of ints
+     * 
+     * The file is split into windows that are reduced by the (ones, twos)
+     * kernel in parallel fork-join tasks. Each task reads its window with
+     * positional reads into one BIT_COUNT_CHUNK buffer, so nothing is
+     * mapped (Java 11 cannot unmap a buffer before GC, and a mapping per
+     * window would pile up on large files). The per-window counters are
+     * combined with Mod3Accumulator.merge.
+     * 
+     * Time Complexity: O(n / cores) - one sequential read of the file
+     * Space Complexity: O(1) - one 64 KB read buffer per running task
+     */
+    public int singleNumber(Path file, ByteOrder order, long windowBytes) throws IOException {
+        long alignedWindow = windowBytes & ~(long) (Integer.BYTES - 1);
+        if (alignedWindow <= 0 || alignedWindow > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Window must hold 1 to " + (Integer.MAX_VALUE / Integer.BYTES)
+                    + " ints: " + windowBytes + " bytes");
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size % Integer.BYTES != 0) {
+                throw new IOException(file + " does not hold a whole number of ints (" + size + " bytes)");
+            }
+            long windows = (size + alignedWindow - 1) / alignedWindow;
+            try {
+                return ForkJoinPool.commonPool()
+                        .invoke(new MappedWindowTask(channel, order, size, alignedWindow, 0, windows))
+                        .result();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+    }
+    
+    /**
+     * Fork-join task reducing windows [from, to) of an int file to a mod-3 bit counter
+     */
+    private static final class MappedWindowTask extends RecursiveTask<Mod3Accumulator> {
+        private static final long serialVersionUID = 1L;
+        
+        private final transient FileChannel channel;
+        private final transient ByteOrder order;
+        private final long size;
+        private final long windowBytes;
+        private final long from;
+        private final long to;
+        
+        MappedWindowTask(FileChannel channel, ByteOrder order, long size, long windowBytes, long from, long to) {
+            this.channel = channel;
+            this.order = order;
+            this.size = size;
+            this.windowBytes = windowBytes;
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        protected Mod3Accumulator compute() {
+            if (to - from <= 1) {
+                return from < to ? reduceWindow(from) : new Mod3Accumulator();
+            }
+            long mid = (from + to) >>> 1;
+            MappedWindowTask right = new MappedWindowTask(channel, order, size, windowBytes, mid, to);
+            right.fork();
+            Mod3Accumulator left = new MappedWindowTask(channel, order, size, windowBytes, from, mid).compute();
+            return left.merge(right.join());
+        }
+        
+        private Mod3Accumulator reduceWindow(long window) {
+            long start = window * windowBytes;
+            long end = Math.min(start + windowBytes, size);
+            int chunkInts = (int) Math.min(BIT_COUNT_CHUNK, (end - start) / Integer.BYTES);
+            ByteBuffer bytes = ByteBuffer.allocate(chunkInts * Integer.BYTES).order(order);
+            IntBuffer ints = bytes.asIntBuffer();
+            int[] chunk = new int[chunkInts];
+            Mod3Accumulator accumulator = new Mod3Accumulator();
+            try {
+                for (long position = start; position < end; position += bytes.limit()) {
+                    bytes.clear().limit((int) Math.min(bytes.capacity(), end - position));
+                    while (bytes.hasRemaining()) {
+                        if (channel.read(bytes, position + bytes.position()) < 0) {
+                            throw new EOFException("File ended before byte " + end);
+                        }
+                    }
+                    int count = bytes.limit() / Integer.BYTES;
+                    ints.clear();
+                    ints.get(chunk, 0, count);
+                    accumulator.acceptAll(chunk, 0, count);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return accumulator;
+        }
+    }
+    
+    /**
+     * Fork-join task reducing nums[from, to) to a mod-3 bit counter
+     */
+    private static final class Mod3Task extends RecursiveTask<Mod3Accumulator> {
+        private static final long serialVersionUID = 1L;
+        
+        private final int[] nums;
+        private final int from;
+        private final int to;
+        
+        Mod3Task(int[] nums, int from, int to) {
+            this.nums = nums;
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        protected Mod3Accumulator compute() {
+            if (to - from <= PARALLEL_LEAF_SIZE) {
+                return new Mod3Accumulator().acceptAll(nums, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            Mod3Task right = new Mod3Task(nums, mid, to);
+            right.fork();
+            Mod3Accumulator left = new Mod3Task(nums, from, mid).compute();
+            return left.merge(right.join());
+        }
+    }
+    
+    /**
+     * Per-bit counter mod 3 in bit-sliced form: for every bit position the
+     * count is 1 if the bit is set in ones, 2 if it is set in twos, 0 otherwise.
+     * This is exactly the (ones, twos) state of singleNumber, made reusable.
+     * 
+     * Accumulators from different shards can be merged, and the whole state
+     * fits in an 8-byte checkpoint, so shards exchange partial results
+     * instead of raw data.
+     */
+    public static final class Mod3Accumulator {
+        /** Size of the serialized checkpoint */
+        public static final int CHECKPOINT_BYTES = Long.BYTES;
+        
+        private int ones;
+        private int twos;
+        
+        public Mod3Accumulator() {
+        }
+        
+        private Mod3Accumulator(int ones, int twos) {
+            this.ones = ones;
+            this.twos = twos;
+        }
+        
+        /**
+         * Counts one more occurrence of value
+         */
+        public void accept(int value) {
+            ones = (ones ^ value) & ~twos;
+            twos = (twos ^ value) & ~ones;
+        }
+        
+        /**
+         * Counts every element of nums[from, to), keeping the state in locals
+         * @return Mod3Accumulator - this accumulator
+         */
+        public Mod3Accumulator acceptAll(int[] nums, int from, int to) {
+            int o = ones;
+            int t = twos;
+            for (int i = from; i < to; i++) {
+                o = (o ^ nums[i]) & ~t;
+                t = (t ^ nums[i]) & ~o;
+            }
+            ones = o;
+            twos = t;
+            return this;
+        }
+        
+        /**
+         * Adds another counter into this one, bit by bit mod 3
+         * @param other - counter to add (not modified)
+         * @return Mod3Accumulator - this accumulator
+         */
+        public Mod3Accumulator merge(Mod3Accumulator other) {
+            int sumOnes = addMod3Ones(ones, twos, other.ones, other.twos);
+            int sumTwos = addMod3Twos(ones, twos, other.ones, other.twos);
+            ones = sumOnes;
+            twos = sumTwos;
+            return this;
+        }
+        
+        /**
+         * The value seen a non-multiple-of-3 number of times, assuming it
+         * was seen once (count 1 leaves its bits in ones)
+         */
+        public int result() {
+            return ones;
+        }
+        
+        public int ones() {
+            return ones;
+        }
+        
+        public int twos() {
+            return twos;
+        }
+        
+        /**
+         * Undoes one accept(value): subtracting 1 is adding 2 mod 3
+         */
+        public void remove(int value) {
+            accept(value);
+            accept(value);
+        }
+        
+        /**
+         * Packs the state into a long: twos in the high half, ones in the low half
+         */
+        public long toCheckpoint() {
+            return ((long) twos << 32) | (ones & 0xFFFFFFFFL);
+        }
+        
+        /**
+         * Restores an accumulator from toCheckpoint()
+         * @throws IllegalArgumentException if a bit is set in both halves (not a valid mod-3 state)
+         */
+        public static Mod3Accumulator fromCheckpoint(long checkpoint) {
+            int ones = (int) checkpoint;
+            int twos = (int) (checkpoint >>> 32);
+            if ((ones & twos) != 0) {
+                throw new IllegalArgumentException("Invalid checkpoint: bits " + Integer.toHexString(ones & twos)
+                        + " are set in both ones and twos");
+            }
+            return new Mod3Accumulator(ones, twos);
+        }
+        
+        /**
+         * The checkpoint as CHECKPOINT_BYTES big-endian bytes
+         */
+        public byte[] toBytes() {
+            return ByteBuffer.allocate(CHECKPOINT_BYTES).putLong(toCheckpoint()).array();
+        }
+        
+        /**
+         * Restores an accumulator from toBytes()
+         * @throws IllegalArgumentException if the array is not CHECKPOINT_BYTES long or the state is invalid
+         */
+        public static Mod3Accumulator fromBytes(byte[] bytes) {
+            if (bytes.length != CHECKPOINT_BYTES) {
+                throw new IllegalArgumentException("Checkpoint must be " + CHECKPOINT_BYTES + " bytes: " + bytes.length);
+            }
+            return fromCheckpoint(ByteBuffer.wrap(bytes).getLong());
+        }
+        
+        @Override
+        public String toString() {
+            return "Mod3Accumulator[ones=" + Integer.toHexString(ones) + ", twos=" + Integer.toHexString(twos) + "]";
+        }
+    }
+    
+    /**
+     * Bit-sliced mod-3 adder, "ones" half: a bit ends up at count 1 for
+     * 1 + 0, 0 + 1 or 2 + 2 (= 4 = 1 mod 3)
+     */
+    static int addMod3Ones(int aOnes, int aTwos, int bOnes, int bTwos) {
+        int aZero = ~(aOnes | aTwos);
+        int bZero = ~(bOnes | bTwos);
+        return (aOnes & bZero) | (aZero & bOnes) | (aTwos & bTwos);
+    }
+    
+    /**
+     * Bit-sliced mod-3 adder, "twos" half: a bit ends up at count 2 for
+     * 2 + 0, 0 + 2 or 1 + 1
+     */
+    static int addMod3Twos(int aOnes, int aTwos, int bOnes, int bTwos) {
+        int aZero = ~(aOnes | aTwos);
+        int bZero = ~(bOnes | bTwos);
+        return (aTwos & bZero) | (aZero & bTwos) | (aOnes & bOnes);
+    }
+    
     /**
      * Alternative bit manipulation approach using bit counting
      * @param nums - array where every number appears 3 times except one
@@ -104,6 +453,205 @@ public class SingleNumberII {
         return result;
     }
     
+    /**
+     * Single-pass bit counting: all 32 counters are updated per element
+     * @param nums - array where every number appears 3 times except one
+     * @return int - the number that appears only once
+     * 
+     * Same counting argument as singleNumberBitCounting, but the array is read
+     * once instead of 32 times. Only the set bits of each element are visited.
+     * 
+     * Time Complexity: O(n * set bits) - at most 32n counter updates, one read of the array
+     * Space Complexity: O(1) - 32 counters
+     */
+    public int singleNumberBitCountingSinglePass(int[] nums) {
+        long[] counts = new long[32];
+        addBitCounts(nums, 0, nums.length, counts);
+        return bitsNotMultipleOfThree(counts);
+    }
+    
+    /**
+     * Single-pass bit counting over an IntBuffer, e.g. a memory-mapped file
+     * @param buffer - ints from position to limit; the position is not changed
+     * @return int - the number that appears only once
+     * 
+     * The buffer is copied in BIT_COUNT_CHUNK-sized chunks with a bulk get, so a
+     * mapped file is read from disk exactly once, in order.
+     * 
+     * Time Complexity: O(n * set bits)
+     * Space Complexity: O(1) - 32 counters plus one fixed-size chunk
+     */
+    public int singleNumberBitCounting(IntBuffer buffer) {
+        IntBuffer view = buffer.duplicate();
+        int[] chunk = new int[Math.min(BIT_COUNT_CHUNK, view.remaining())];
+        long[] counts = new long[32];
+        while (view.hasRemaining()) {
+            int length = Math.min(chunk.length, view.remaining());
+            view.get(chunk, 0, length);
+            addBitCounts(chunk, 0, length, counts);
+        }
+        return bitsNotMultipleOfThree(counts);
+    }
+    
+    /**
+     * Adds the set bits of nums[from, to) into counts[0..31]
+     */
+    private static void addBitCounts(int[] nums, int from, int to, long[] counts) {
+        for (int i = from; i < to; i++) {
+            int bits = nums[i];
+            while (bits != 0) {
+                counts[Integer.numberOfTrailingZeros(bits)]++;
+                bits &= bits - 1;
+            }
+        }
+    }
+    
+    /**
+     * Mask of bit positions whose count is not divisible by 3
+     */
+    private static int bitsNotMultipleOfThree(long[] counts) {
+        int result = 0;
+        for (int i = 0; i < 32; i++) {
+            if (counts[i] % 3 != 0) {
+                result |= (1 << i);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Generalized solver: every element appears k times except one that appears p times
+     * @param nums - input array
+     * @param k - repeat count of the ordinary elements (k >= 2)
+     * @param p - repeat count of the unique element (p % k != 0)
+     * @return int - the element that appears p times
+     * 
+     * Each bit position gets a counter mod k, stored bit-sliced across
+     * ceil(log2 k) words: counters[j] holds bit j of all 32 counters. An element
+     * is added with a ripple-carry increment on the lanes where it has a 1 bit;
+     * lanes that reach k are reset to 0. At the end a lane's counter is p % k
+     * exactly where the unique element has a 1 bit. For k = 3, p = 1 this is the
+     * ones/twos scheme of singleNumber.
+     * 
+     * Time Complexity: O(n log k) - single pass
+     * Space Complexity: O(log k) - O(1) for a fixed k
+     */
+    public int singleNumber(int[] nums, int k, int p) {
+        int remainder = checkRepeatCounts(k, p);
+        int[] counters = new int[counterWords(k)];
+        for (int num : nums) {
+            // Ripple-carry add num into the bit-sliced counters
+            int carry = num;
+            for (int j = 0; j < counters.length && carry != 0; j++) {
+                int nextCarry = counters[j] & carry;
+                counters[j] ^= carry;
+                carry = nextCarry;
+            }
+            // Reset lanes whose counter reached k
+            int reachedK = lanesEqualTo(counters, k);
+            for (int j = 0; j < counters.length; j++) {
+                counters[j] &= ~reachedK;
+            }
+        }
+        return lanesEqualTo(counters, remainder);
+    }
+    
+    /**
+     * Generalized solver for long elements (see singleNumber(int[], int, int))
+     * @param nums - input array
+     * @param k - repeat count of the ordinary elements (k >= 2)
+     * @param p - repeat count of the unique element (p % k != 0)
+     * @return long - the element that appears p times
+     * 
+     * Time Complexity: O(n log k)
+     * Space Complexity: O(log k)
+     */
+    public long singleNumber(long[] nums, int k, int p) {
+        int remainder = checkRepeatCounts(k, p);
+        long[] counters = new long[counterWords(k)];
+        for (long num : nums) {
+            long carry = num;
+            for (int j = 0; j < counters.length && carry != 0; j++) {
+                long nextCarry = counters[j] & carry;
+                counters[j] ^= carry;
+                carry = nextCarry;
+            }
+            long reachedK = lanesEqualTo(counters, k);
+            for (int j = 0; j < counters.length; j++) {
+                counters[j] &= ~reachedK;
+            }
+        }
+        return lanesEqualTo(counters, remainder);
+    }
+    
+    /**
+     * Generalized bit counting fallback: 32 passes, one counter per bit
+     * @param nums - input array
+     * @param k - repeat count of the ordinary elements (k >= 2)
+     * @param p - repeat count of the unique element (p % k != 0)
+     * @return int - the element that appears p times
+     * 
+     * Time Complexity: O(32n)
+     * Space Complexity: O(1)
+     */
+    public int singleNumberBitCounting(int[] nums, int k, int p) {
+        checkRepeatCounts(k, p);
+        int result = 0;
+        for (int i = 0; i < 32; i++) {
+            int bitCount = 0;
+            for (int num : nums) {
+                // Count mod k so the counter cannot overflow
+                if ((num >> i & 1) == 1 && ++bitCount == k) {
+                    bitCount = 0;
+                }
+            }
+            if (bitCount != 0) {
+                result |= (1 << i);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Validates (k, p) and returns p % k, the final counter of the unique element's bits
+     */
+    private static int checkRepeatCounts(int k, int p) {
+        if (k < 2) {
+            throw new IllegalArgumentException("k must be at least 2: " + k);
+        }
+        if (p < 1 || p % k == 0) {
+            throw new IllegalArgumentException("p must be positive and not a multiple of k: p=" + p + ", k=" + k);
+        }
+        return p % k;
+    }
+    
+    /**
+     * Number of bit-sliced words needed to count 0..k-1, i.e. ceil(log2 k).
+     * When k is a power of two the counter simply wraps to 0 on reaching k.
+     */
+    static int counterWords(int k) {
+        return 32 - Integer.numberOfLeadingZeros(k - 1);
+    }
+    
+    /**
+     * Mask of lanes whose bit-sliced counter equals value
+     */
+    private static int lanesEqualTo(int[] counters, int value) {
+        int mask = -1;
+        for (int j = 0; j < counters.length; j++) {
+            mask &= ((value >> j & 1) != 0) ? counters[j] : ~counters[j];
+        }
+        return mask;
+    }
+    
+    private static long lanesEqualTo(long[] counters, int value) {
+        long mask = -1L;
+        for (int j = 0; j < counters.length; j++) {
+            mask &= ((value >> j & 1) != 0) ? counters[j] : ~counters[j];
+        }
+        return mask;
+    }
+    
     /**
      * Brute force approach using HashMap (violates space constraint)
      * @param nums - array where every number appears 3 times except one
@@ -131,6 +679,532 @@ public class SingleNumberII {
         throw new IllegalArgumentException("No single number found");
     }
     
+    /**
+     * Finds every value whose count is not a multiple of 3
+     * @param nums - input array, any number of values may break the pattern
+     * @return int[] - the offending values in ascending order
+     * 
+     * Generalizes singleNumberHashMap: counts are kept mod 3 in a primitive
+     * Mod3CountMap, so there is no boxing and one byte of count per value.
+     * 
+     * Time Complexity: O(n + m log m) - m offending values
+     * Space Complexity: O(d) - d distinct values
+     */
+    public int[] findNonMultiplesOfThree(int[] nums) {
+        Mod3CountMap counts = new Mod3CountMap();
+        for (int num : nums) {
+            counts.add(num);
+        }
+        return counts.nonMultiples();
+    }
+    
+    /**
+     * findNonMultiplesOfThree with a fingerprint pre-pass
+     * @param nums - input array, any number of values may break the pattern
+     * @return int[] - the offending values in ascending order
+     * 
+     * A first pass feeds every value's 64-bit fingerprint into the (ones, twos)
+     * counter of its hash bucket. A bucket whose counter ends at zero holds only
+     * values with counts that are multiples of 3, so the second pass counts
+     * exactly only the values in non-zero buckets. When anomalies are rare the
+     * count map stays tiny. The filter is probabilistic: offending values in
+     * one bucket could cancel on all 64 fingerprint bits, which happens with
+     * probability about 3^-64 per bucket.
+     * 
+     * Time Complexity: O(n) - two passes
+     * Space Complexity: O(n / 64) for the filter, plus the values in dirty buckets
+     */
+    public int[] findNonMultiplesOfThreeFiltered(int[] nums) {
+        FingerprintFilter filter = new FingerprintFilter(FingerprintFilter.bucketBitsFor(nums.length / 64));
+        for (int num : nums) {
+            filter.accept(num);
+        }
+        Mod3CountMap counts = new Mod3CountMap();
+        for (int num : nums) {
+            if (!filter.isClean(num)) {
+                counts.add(num);
+            }
+        }
+        return counts.nonMultiples();
+    }
+    
+    /**
+     * Open-addressing map from int to (count mod 3), one byte of state per slot
+     */
+    static final class Mod3CountMap {
+        /** Slot states: 0 = empty, otherwise 1 + (count mod 3) */
+        private static final byte EMPTY = 0;
+        
+        private int[] keys;
+        private byte[] states;
+        private int mask;
+        private int size;
+        
+        Mod3CountMap() {
+            this(16);
+        }
+        
+        Mod3CountMap(int expectedSize) {
+            allocate(PrimitiveHashing.tableSizeFor(expectedSize));
+        }
+        
+        void add(int key) {
+            int slot = PrimitiveHashing.mix(key) & mask;
+            while (states[slot] != EMPTY) {
+                if (keys[slot] == key) {
+                    states[slot] = (byte) (states[slot] == 3 ? 1 : states[slot] + 1);
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            states[slot] = 2;
+            if (++size > (mask + 1) >>> 1) {
+                rehash(PrimitiveHashing.grownCapacity(keys.length));
+            }
+        }
+        
+        /**
+         * @return int - count of key mod 3 (0 if absent)
+         */
+        int count(int key) {
+            int slot = PrimitiveHashing.mix(key) & mask;
+            while (states[slot] != EMPTY) {
+                if (keys[slot] == key) {
+                    return states[slot] - 1;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return 0;
+        }
+        
+        /**
+         * Number of distinct keys seen
+         */
+        int size() {
+            return size;
+        }
+        
+        /**
+         * Keys whose count is not a multiple of 3, ascending
+         */
+        int[] nonMultiples() {
+            int[] result = new int[size];
+            int found = 0;
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (states[slot] > 1) {
+                    result[found++] = keys[slot];
+                }
+            }
+            result = java.util.Arrays.copyOf(result, found);
+            java.util.Arrays.sort(result);
+            return result;
+        }
+        
+        private void rehash(int newCapacity) {
+            int[] oldKeys = keys;
+            byte[] oldStates = states;
+            allocate(newCapacity);
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldStates[i] != EMPTY) {
+                    int slot = PrimitiveHashing.mix(oldKeys[i]) & mask;
+                    while (states[slot] != EMPTY) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = oldKeys[i];
+                    states[slot] = oldStates[i];
+                }
+            }
+        }
+        
+        private void allocate(int capacity) {
+            keys = new int[capacity];
+            states = new byte[capacity];
+            mask = capacity - 1;
+        }
+    }
+    
+    /**
+     * Hash buckets of 64-bit (ones, twos) counters over value fingerprints.
+     * A bucket that ends at zero saw every one of its values a multiple of 3
+     * times (up to a 3^-64 chance of cancellation).
+     */
+    static final class FingerprintFilter {
+        private final long[] ones;
+        private final long[] twos;
+        private final int shift;
+        
+        FingerprintFilter(int bucketBits) {
+            ones = new long[1 << bucketBits];
+            twos = new long[1 << bucketBits];
+            shift = Integer.SIZE - bucketBits;
+        }
+        
+        /**
+         * Bucket bits for about the given number of buckets, between 4 and 24
+         */
+        static int bucketBitsFor(long buckets) {
+            int bits = 64 - Long.numberOfLeadingZeros(Math.max(1, buckets) - 1);
+            return Math.max(4, Math.min(24, bits));
+        }
+        
+        void accept(int value) {
+            int bucket = bucket(value);
+            long fingerprint = fingerprint(value);
+            long o = (ones[bucket] ^ fingerprint) & ~twos[bucket];
+            twos[bucket] = (twos[bucket] ^ fingerprint) & ~o;
+            ones[bucket] = o;
+        }
+        
+        boolean isClean(int value) {
+            int bucket = bucket(value);
+            return (ones[bucket] | twos[bucket]) == 0;
+        }
+        
+        /**
+         * Fraction of buckets that are not clean
+         */
+        double dirtyFraction() {
+            int dirty = 0;
+            for (int b = 0; b < ones.length; b++) {
+                if ((ones[b] | twos[b]) != 0) {
+                    dirty++;
+                }
+            }
+            return (double) dirty / ones.length;
+        }
+        
+        private int bucket(int value) {
+            return (value * 0x9E3779B9) >>> shift;
+        }
+        
+        /**
+         * SplitMix64 of the value; never 0, so every value touches some bit
+         */
+        static long fingerprint(int value) {
+            long z = value + 0x9E3779B97F4A7C15L;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+    }
+    
+    /**
+     * Bounded-memory anomaly detection over binary int32 files with billions of records.
+     * 
+     * Pass 1 builds a FingerprintFilter over the file. Pass 2 re-reads the
+     * file and spills only values from dirty buckets into hash partitions on
+     * disk, sized so that one partition's Mod3CountMap fits the budget.
+     * Pass 3 counts each partition on its own. A partition that turns out to
+     * hold too many distinct values (skew, or more than MAX_PARTITIONS were
+     * needed) is split again with an independent hash instead of letting the
+     * map outgrow the budget. A value always lands in the same partition, so
+     * per-partition results are exact and just concatenate.
+     * Temporary files are written in native byte order and deleted afterwards.
+     */
+    public static final class SpillingAnomalyDetector {
+        public static final long MIN_MEMORY_BYTES = 1 << 20;
+        
+        /** Heap per table slot of a Mod3CountMap (int key and state byte) */
+        private static final int MAP_BYTES_PER_SLOT = Integer.BYTES + 1;
+        
+        private static final int MAX_PARTITIONS = 1024;
+        
+        /** Re-partitioning rounds below the first spill before giving up */
+        private static final int MAX_LEVELS = 8;
+        
+        private final long memoryBytes;
+        private final Path tempDir;
+        
+        /**
+         * @param memoryBytes - memory budget, at least MIN_MEMORY_BYTES
+         * @param tempDir - directory for partition files
+         */
+        public SpillingAnomalyDetector(long memoryBytes, Path tempDir) {
+            if (memoryBytes < MIN_MEMORY_BYTES) {
+                throw new IllegalArgumentException("Memory budget must be at least " + MIN_MEMORY_BYTES + " bytes");
+            }
+            this.memoryBytes = memoryBytes;
+            this.tempDir = tempDir;
+        }
+        
+        /**
+         * @param file - file of 32-bit ints
+         * @param order - byte order of the ints in the file
+         * @return int[] - every value whose count is not a multiple of 3, ascending
+         * @throws IOException if reading or writing fails, or the file length is not a multiple of 4
+         * @throws IllegalStateException if some partition still holds too many
+         *         distinct values for the budget after MAX_LEVELS re-partitioning rounds
+         */
+        public int[] findNonMultiplesOfThree(Path file, ByteOrder order) throws IOException {
+            long size = Files.size(file);
+            if (size % Integer.BYTES != 0) {
+                throw new IOException(file + " does not hold a whole number of ints (" + size + " bytes)");
+            }
+            int ioBytes = (int) Math.min(1 << 20, memoryBytes / 16) & ~(Integer.BYTES - 1);
+            
+            // Pass 1: fingerprint filter in a quarter of the budget
+            FingerprintFilter filter = new FingerprintFilter(
+                    FingerprintFilter.bucketBitsFor(memoryBytes / 4 / (2 * Long.BYTES) / 2));
+            try (IntReader reader = new IntReader(file, order, ioBytes)) {
+                while (reader.hasNext()) {
+                    filter.accept(reader.next());
+                }
+            }
+            
+            // Values surviving the filter, with a 2x margin over the uniform-hashing estimate
+            long survivors = (long) Math.ceil(2 * filter.dirtyFraction() * (size / Integer.BYTES));
+            int maxDistinct = maxDistinctFor(memoryBytes / 2);
+            
+            if (survivors <= maxDistinct) {
+                Mod3CountMap counts = new Mod3CountMap();
+                try (IntReader reader = new IntReader(file, order, ioBytes)) {
+                    while (reader.hasNext() && counts != null) {
+                        int value = reader.next();
+                        if (!filter.isClean(value)) {
+                            counts.add(value);
+                            if (counts.size() > maxDistinct) {
+                                counts = null; // the estimate was too low: spill after all
+                            }
+                        }
+                    }
+                }
+                if (counts != null) {
+                    return counts.nonMultiples();
+                }
+                survivors = maxDistinct + 1L;
+            }
+            
+            // Pass 2: spill dirty values by hash partition
+            int partitions = partitionsFor(survivors, maxDistinct);
+            List<Path> temporaries = new ArrayList<>();
+            try {
+                PartitionWriter[] writers = new PartitionWriter[partitions];
+                try (IntReader reader = new IntReader(file, order, ioBytes)) {
+                    openPartitions(writers, temporaries);
+                    while (reader.hasNext()) {
+                        int value = reader.next();
+                        if (!filter.isClean(value)) {
+                            writers[partitionOf(value, partitions, 0)].write(value);
+                        }
+                    }
+                } finally {
+                    closeAll(writers);
+                }
+                
+                // Pass 3: exact counts per partition
+                IntList result = new IntList();
+                for (Path partition : temporaries) {
+                    countPartition(partition, 1, maxDistinct, ioBytes, result);
+                }
+                int[] sorted = result.toArray();
+                java.util.Arrays.sort(sorted);
+                return sorted;
+            } finally {
+                for (Path temporary : temporaries) {
+                    Files.deleteIfExists(temporary);
+                }
+            }
+        }
+        
+        /**
+         * Adds the non-multiples in one partition file to result. A partition
+         * with more than maxDistinct distinct values is split again with the
+         * hash of the next level, which is independent of the one that formed it.
+         */
+        private void countPartition(Path partition, int level, int maxDistinct, int ioBytes, IntList result)
+                throws IOException {
+            Mod3CountMap counts = new Mod3CountMap();
+            try (IntReader reader = new IntReader(partition, ByteOrder.nativeOrder(), ioBytes)) {
+                while (reader.hasNext() && counts != null) {
+                    counts.add(reader.next());
+                    if (counts.size() > maxDistinct) {
+                        counts = null;
+                    }
+                }
+            }
+            if (counts != null) {
+                result.addAll(counts.nonMultiples());
+                return;
+            }
+            if (level > MAX_LEVELS) {
+                throw new IllegalStateException("Partition " + partition + " still holds more than " + maxDistinct
+                        + " distinct values after " + MAX_LEVELS + " re-partitioning rounds; raise the memory budget");
+            }
+            
+            // Records bound the distinct values from above
+            int partitions = partitionsFor(Files.size(partition) / Integer.BYTES, maxDistinct);
+            List<Path> temporaries = new ArrayList<>();
+            try {
+                PartitionWriter[] writers = new PartitionWriter[partitions];
+                try (IntReader reader = new IntReader(partition, ByteOrder.nativeOrder(), ioBytes)) {
+                    openPartitions(writers, temporaries);
+                    while (reader.hasNext()) {
+                        int value = reader.next();
+                        writers[partitionOf(value, partitions, level)].write(value);
+                    }
+                } finally {
+                    closeAll(writers);
+                }
+                for (Path child : temporaries) {
+                    countPartition(child, level + 1, maxDistinct, ioBytes, result);
+                }
+            } finally {
+                for (Path temporary : temporaries) {
+                    Files.deleteIfExists(temporary);
+                }
+            }
+        }
+        
+        private void openPartitions(PartitionWriter[] writers, List<Path> temporaries) throws IOException {
+            int blockBytes = (int) Math.max(512, Math.min(1 << 16, memoryBytes / 4 / writers.length))
+                    & ~(Integer.BYTES - 1);
+            for (int p = 0; p < writers.length; p++) {
+                Path partition = Files.createTempFile(tempDir, "mod3-partition", ".bin");
+                temporaries.add(partition);
+                writers[p] = new PartitionWriter(partition, blockBytes);
+            }
+        }
+        
+        /**
+         * Distinct values one Mod3CountMap may hold in mapBudget bytes. The map
+         * doubles when half full, so the cap is a quarter of the largest table
+         * that, together with the half-size table it is rehashed from, fits.
+         */
+        static int maxDistinctFor(long mapBudget) {
+            long slots = Long.highestOneBit(mapBudget * 2 / 3 / MAP_BYTES_PER_SLOT);
+            return (int) (Math.min(slots, PrimitiveHashing.MAX_CAPACITY) / 4);
+        }
+        
+        /**
+         * Enough partitions for distinct values to fit maxDistinct each, from 2
+         * to MAX_PARTITIONS; partitions still too big are split again later
+         */
+        private static int partitionsFor(long distinct, int maxDistinct) {
+            return (int) Math.max(2, Math.min(MAX_PARTITIONS, (distinct + maxDistinct - 1) / maxDistinct));
+        }
+        
+        /**
+         * Partition from the high half of the fingerprint, independent of the
+         * filter bucket. Each level XORs in its own constant first, so a
+         * re-partitioned file splits along different lines than its parent.
+         */
+        static int partitionOf(int value, int partitions, int level) {
+            long fingerprint = FingerprintFilter.fingerprint(value ^ (level * 0x9E3779B9));
+            return (int) (((fingerprint >>> 32) * partitions) >>> 32);
+        }
+        
+        /**
+         * Growable int list for collecting partial results
+         */
+        private static final class IntList {
+            private int[] values = new int[16];
+            private int size;
+            
+            void addAll(int[] more) {
+                if (size + more.length > values.length) {
+                    values = java.util.Arrays.copyOf(values, Math.max(size + more.length, values.length * 2));
+                }
+                System.arraycopy(more, 0, values, size, more.length);
+                size += more.length;
+            }
+            
+            int[] toArray() {
+                return java.util.Arrays.copyOf(values, size);
+            }
+        }
+        
+        private static void closeAll(PartitionWriter[] writers) throws IOException {
+            IOException failure = null;
+            for (PartitionWriter writer : writers) {
+                if (writer == null) {
+                    continue;
+                }
+                try {
+                    writer.close();
+                } catch (IOException e) {
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+        
+        /**
+         * Sequential int reader over a file through one direct buffer
+         */
+        private static final class IntReader implements AutoCloseable {
+            private final FileChannel channel;
+            private final ByteBuffer buffer;
+            
+            IntReader(Path file, ByteOrder order, int blockBytes) throws IOException {
+                channel = FileChannel.open(file, StandardOpenOption.READ);
+                buffer = ByteBuffer.allocateDirect(blockBytes).order(order);
+                buffer.flip();
+            }
+            
+            boolean hasNext() throws IOException {
+                if (buffer.remaining() >= Integer.BYTES) {
+                    return true;
+                }
+                buffer.compact();
+                while (buffer.position() < Integer.BYTES && channel.read(buffer) >= 0) {
+                    // Keep reading until a whole int is buffered or the file ends
+                }
+                buffer.flip();
+                return buffer.remaining() >= Integer.BYTES;
+            }
+            
+            int next() {
+                return buffer.getInt();
+            }
+            
+            @Override
+            public void close() throws IOException {
+                channel.close();
+            }
+        }
+        
+        private static final class PartitionWriter implements AutoCloseable {
+            private final FileChannel channel;
+            private final ByteBuffer buffer;
+            
+            PartitionWriter(Path file, int blockBytes) throws IOException {
+                channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                buffer = ByteBuffer.allocate(blockBytes).order(ByteOrder.nativeOrder());
+            }
+            
+            void write(int value) throws IOException {
+                if (buffer.remaining() < Integer.BYTES) {
+                    flush();
+                }
+                buffer.putInt(value);
+            }
+            
+            private void flush() throws IOException {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                buffer.clear();
+            }
+            
+            @Override
+            public void close() throws IOException {
+                try {
+                    flush();
+                } finally {
+                    channel.close();
+                }
+            }
+        }
+    }
+    
     /**
      * Mathematical approach using sum formula (violates space constraint)
      * @param nums - array where every number appears 3 times except one
@@ -233,19 +1307,149 @@ public class SingleNumberII {
         
         java.util.Arrays.sort(arr);
 
+        return findUniqueInSorted(arr);
+    }
+    
+    /**
+     * Sorting approach without touching the caller's array, in linear time
+     * @param arr - array where every number appears 3 times except one (not modified)
+     * @return Integer - the unique number, or null if array is empty or no unique found
+     * 
+     * Sorts a private copy with an LSD radix sort (four 8-bit digits, sign bit
+     * flipped on the top digit so negatives order first), then runs the same
+     * triplet-skip scan as singleNumberSorting. Each digit pass is split into
+     * chunks: every chunk builds its own histogram in parallel, the histograms
+     * are turned into per-chunk write offsets, and the chunks scatter in
+     * parallel. Passes where every element has the same digit are skipped.
+     * 
+     * Time Complexity: O(n) - 4 passes of O(n + 256 * chunks)
+     * Space Complexity: O(n) - the private copy and one scatter buffer
+     */
+    public Integer singleNumberRadixSort(int[] arr) {
+        if (arr == null || arr.length == 0) {
+            return null;
+        }
+        return findUniqueInSorted(radixSorted(arr));
+    }
+    
+    /**
+     * Triplet-skip scan shared by the sorting approaches
+     * @param sorted - sorted array where every number appears 3 times except one
+     * @return Integer - the unique number, or null if none is found
+     */
+    private static Integer findUniqueInSorted(int[] sorted) {
         int index = 0;
-        while (index < arr.length) {
+        while (index < sorted.length) {
             // Check if current element has a duplicate next to it
-            if (index < arr.length - 1 && arr[index] == arr[index + 1]) {
+            if (index < sorted.length - 1 && sorted[index] == sorted[index + 1]) {
                 index += 3; // Skip the triplet (assuming all 3 are consecutive)
             } else {
-                return arr[index]; // Found the unique element
+                return sorted[index]; // Found the unique element
             }
         }
 
         return null; // If no unique element found, return null
     }
+    
+    /**
+     * Returns a sorted copy of arr using a chunk-parallel LSD radix sort
+     */
+    static int[] radixSorted(int[] arr) {
+        int n = arr.length;
+        int[] source = arr.clone();
+        int[] target = new int[n];
+        int chunks = Math.min(ForkJoinPool.commonPool().getParallelism(),
+                Math.max(1, n / PARALLEL_LEAF_SIZE));
+        int chunkSize = (n + chunks - 1) / chunks;
+        int[][] histograms = new int[chunks][RADIX];
+        
+        for (int shift = 0; shift < Integer.SIZE; shift += RADIX_BITS) {
+            // Flip the sign bit on the top digit so negative values sort first
+            int flip = shift == Integer.SIZE - RADIX_BITS ? RADIX >>> 1 : 0;
+            int digitShift = shift;
+            int[] from = source;
+            
+            // Per-chunk histograms
+            IntStream.range(0, chunks).parallel().forEach(c -> {
+                int[] histogram = histograms[c];
+                java.util.Arrays.fill(histogram, 0);
+                for (int i = c * chunkSize, end = Math.min(n, i + chunkSize); i < end; i++) {
+                    histogram[((from[i] >>> digitShift) & (RADIX - 1)) ^ flip]++;
+                }
+            });
+            
+            // Skip the pass if every element has the same digit
+            int firstDigit = ((source[0] >>> shift) & (RADIX - 1)) ^ flip;
+            int sameDigit = 0;
+            for (int c = 0; c < chunks; c++) {
+                sameDigit += histograms[c][firstDigit];
+            }
+            if (sameDigit == n) {
+                continue;
+            }
+            
+            // Histograms -> write offsets, digit-major then chunk order for stability
+            int offset = 0;
+            for (int digit = 0; digit < RADIX; digit++) {
+                for (int c = 0; c < chunks; c++) {
+                    int count = histograms[c][digit];
+                    histograms[c][digit] = offset;
+                    offset += count;
+                }
+            }
+            
+            // Parallel scatter; each chunk writes only to its own offsets
+            int[] to = target;
+            IntStream.range(0, chunks).parallel().forEach(c -> {
+                int[] next = histograms[c];
+                for (int i = c * chunkSize, end = Math.min(n, i + chunkSize); i < end; i++) {
+                    to[next[((from[i] >>> digitShift) & (RADIX - 1)) ^ flip]++] = from[i];
+                }
+            });
+            target = source;
+            source = to;
+        }
+        return source;
+    }
 
+    /**
+     * Finds every value whose count breaks the "multiple of 3" rule on a small
+     * example (the spilling detector is exercised by the bench.Benchmarks harness)
+     */
+    private static void demonstrateAnomalies(SingleNumberII solution) {
+        System.out.println("--- Anomaly Detection ---");
+        int[] small = {1, 1, 1, 2, 2, 3, 4, 4, 4, 4, 5, 5, 5};
+        System.out.println("Input: " + java.util.Arrays.toString(small));
+        System.out.println("Exact: " + java.util.Arrays.toString(solution.findNonMultiplesOfThree(small))); // Expected: [2, 3, 4]
+        System.out.println("Filtered: " + java.util.Arrays.toString(solution.findNonMultiplesOfThreeFiltered(small))); // Expected: [2, 3, 4]
+        System.out.println();
+    }
+    
+    /**
+     * Simulates three shards that each see part of a stream and ship only an
+     * 8-byte checkpoint to a coordinator
+     */
+    private static void demonstrateShards() {
+        System.out.println("--- Sharded Accumulators ---");
+        int[][] shards = {{7, 42, 7}, {42, -3, 99}, {7, 42, 99, 99}};
+        
+        Mod3Accumulator total = new Mod3Accumulator();
+        for (int s = 0; s < shards.length; s++) {
+            Mod3Accumulator shard = new Mod3Accumulator().acceptAll(shards[s], 0, shards[s].length);
+            byte[] checkpoint = shard.toBytes();
+            System.out.println("Shard " + s + " " + java.util.Arrays.toString(shards[s])
+                    + " -> checkpoint of " + checkpoint.length + " bytes");
+            total.merge(Mod3Accumulator.fromBytes(checkpoint));
+        }
+        System.out.println("Merged result: " + total.result()); // Expected: -3
+        
+        // A late correction replaces the -3 event with a 5
+        total.remove(-3);
+        total.accept(5);
+        System.out.println("After replacing -3 with 5: " + total.result()); // Expected: 5
+        System.out.println();
+    }
+    
     /**
      * Helper method to explain the bit manipulation logic
      */
@@ -314,12 +1518,32 @@ public class SingleNumberII {
         System.out.println("Result: " + result6); // Expected: 300
         System.out.println();
         
+        // Test case 7: Generalized - every element 5 times, unique one 2 times
+        int[] nums7 = {9, 4, 9, 9, 4, 9, 4, 9, -7, 4, -7, 4};
+        System.out.println("Test 7 (k=5, p=2): " + java.util.Arrays.toString(nums7));
+        System.out.println("Result: " + solution.singleNumber(nums7, 5, 2)); // Expected: -7
+        System.out.println("Bit Counting Result: " + solution.singleNumberBitCounting(nums7, 5, 2)); // Expected: -7
+        System.out.println();
+        
+        // Test case 8: Generalized long version - every element twice, unique one once
+        long[] nums8 = {1L << 40, 77L, 1L << 40, Long.MIN_VALUE, 77L};
+        System.out.println("Test 8 (k=2, p=1, long): " + java.util.Arrays.toString(nums8));
+        System.out.println("Result: " + solution.singleNumber(nums8, 2, 1)); // Expected: -9223372036854775808
+        System.out.println();
+        
         System.out.println("--- Comparing with alternative approaches ---");
         
+        // Compare with the generalized solver and the parallel reductions
+        System.out.println("Generalized (k=3, p=1) Result: " + solution.singleNumber(nums1, 3, 1));
+        System.out.println("Parallel Fork-Join Result: " + solution.singleNumberParallel(nums1));
+        System.out.println("Parallel IntStream Result: " + solution.singleNumber(IntStream.of(nums1).parallel()));
+        
         // Compare with bit counting approach
         int bitCountResult = solution.singleNumberBitCounting(nums1);
         System.out.println("Bit Counting Result: " + bitCountResult);
         
+        System.out.println("Single-Pass Bit Counting Result: " + solution.singleNumberBitCountingSinglePass(nums1));
+        
         // Compare with HashMap approach (violates space constraint)
         int hashMapResult = solution.singleNumberHashMap(nums1);
         System.out.println("HashMap Result: " + hashMapResult);
@@ -328,6 +1552,11 @@ public class SingleNumberII {
         int mathResult = solution.singleNumberMath(nums1);
         System.out.println("Mathematical Result: " + mathResult);
         
+        // Compare with the non-mutating radix sort approach (O(n) extra space)
+        int[] radixInput = nums1.clone();
+        System.out.println("Radix Sort Result: " + solution.singleNumberRadixSort(radixInput)
+                + " (input unchanged: " + java.util.Arrays.equals(radixInput, nums1) + ")");
+        
         // Compare with sorting approach (violates time constraint)
         Integer sortingResult = solution.singleNumberSorting(nums1);
         System.out.println("Sorting Result: " + sortingResult);
@@ -335,6 +1564,9 @@ public class SingleNumberII {
         System.out.println("\n--- Bit Manipulation Explanation ---");
         solution.explainBitLogic(new int[]{3, 3, 3, 5});
         
+        demonstrateAnomalies(solution);
+        demonstrateShards();
+        
         System.out.println("--- Algorithm Comparison ---");
         System.out.println("✓ Bit Manipulation (ones/twos): O(n) time, O(1) space - OPTIMAL");
         System.out.println("✓ Bit Counting: O(32n) time, O(1) space - Good");
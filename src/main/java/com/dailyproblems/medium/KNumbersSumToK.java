@@ -0,0 +1,325 @@
+/**
+ * Problem: K Numbers Sum to K (3-Sum / 4-Sum) - Follow-up to Two Numbers Sum to K
+ * Source: dailycodingproblem.com (follow-up)
+ * Date: October 16, 2026
+ * Difficulty: Medium
+ * 
+ * Problem Statement:
+ * Given a list of numbers and a number k, return whether any three (or four, or
+ * in general c) numbers from the list add up to k. Each element may be used at
+ * most once.
+ * 
+ * Example:
+ * Input: nums = [10, 15, 3, 7], k = 20, count = 3
+ * Output: true (because 10 + 3 + 7 = 20)
+ * 
+ * Input: nums = [1, 2, 3, 4, 5], k = 14, count = 4
+ * Output: true (because 2 + 3 + 4 + 5 = 14)
+ * 
+ * Constraints:
+ * - The list can contain positive and negative integers and duplicates
+ * - You cannot use the same element (index) twice
+ * - Sums are exact: they are computed in long and never overflow
+ * 
+ * Approach:
+ * Nesting hasSum calls costs O(n^3) for 3-sum. Instead:
+ * 
+ * 1. Duplicates: a value that occurs more than c times can never be used more
+ *    than c times, so extra copies are dropped before sorting.
+ * 2. 3-Sum: sort once, fix the smallest element a[i] and look for a pair
+ *    summing to k - a[i] in a[i+1..] with a two-pointer scan that sums in
+ *    long. Repeated outer values are skipped, and
+ *    the outer iterations are forked across the fork-join pool.
+ * 3. 4-Sum: while the n^2/2 pair sums fit a bounded table, meet in the
+ *    middle. Walk i left to right; first probe every pair (i, j > i)
+ *    against a primitive set of sums of pairs that lie entirely before i,
+ *    then add the pairs (h < i, i). Probe and stored pairs never share an
+ *    index, so each hit is a genuine 4-sum. Larger inputs fall back to the
+ *    3-sum scheme one level deeper: fix a[i] and a[j], then two pointers
+ *    over a[j+1..], with both outer loops skipping repeated values and
+ *    stopping as soon as the smallest or largest reachable sum rules k out.
+ * 4. c > 4: reduce recursively on the sorted array down to the 2-pointer kernel.
+ * 
+ * Time Complexity: 3-Sum O(n^2 / cores), 4-Sum O(n^2) up to MAX_PAIR_SUMS
+ * pairs and O(n^3 / cores) beyond, general O(n^(c-1))
+ * Space Complexity: 3-Sum O(n), 4-Sum at most O(MAX_PAIR_SUMS) for the pair-sum set
+ * 
+ * Edge Cases Considered:
+ * - Fewer than c elements (should return false)
+ * - The same value used several times (e.g. [2, 2, 2] with k=6, count=3)
+ * - Large values whose sum does not fit in an int
+ * - Negative numbers and k = 0
+ */
+
+package com.dailyproblems.medium;
+
+import com.dailyproblems.util.LongHashSet;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+public class KNumbersSumToK {
+    
+    /** Below this many elements the 3-sum and 4-sum outer loops stay on the calling thread */
+    private static final int PARALLEL_THRESHOLD = 2048;
+    
+    /** Most pair sums the 4-sum keeps in memory (a 2^23-slot long table, 64 MB) */
+    private static final long MAX_PAIR_SUMS = 1 << 22;
+    
+    /**
+     * Checks whether any count elements of nums sum to k
+     * @param nums - array of integers (not modified)
+     * @param count - how many elements the sum must use (at least 2)
+     * @param k - target sum value
+     * @return boolean - true if some count distinct positions sum to k
+     */
+    public boolean hasSum(int[] nums, int count, long k) {
+        if (count < 2) {
+            throw new IllegalArgumentException("count must be at least 2: " + count);
+        }
+        switch (count) {
+            case 3:
+                return hasThreeSum(nums, k);
+            case 4:
+                return hasFourSum(nums, k);
+            default:
+                if (nums == null || nums.length < count) {
+                    return false;
+                }
+                return hasSumSorted(sortedWithCappedDuplicates(nums, count), 0, count, k);
+        }
+    }
+    
+    /**
+     * Checks whether any three elements sum to k
+     * @param nums - array of integers (not modified)
+     * @param k - target sum value
+     * @return boolean - true if three distinct positions sum to k
+     * 
+     * Time Complexity: O(n log n + n^2 / cores)
+     * Space Complexity: O(n) - sorted copy
+     */
+    public boolean hasThreeSum(int[] nums, long k) {
+        if (nums == null || nums.length < 3) {
+            return false;
+        }
+        
+        int[] sorted = sortedWithCappedDuplicates(nums, 3);
+        int n = sorted.length;
+        IntStream outer = IntStream.range(0, n - 2);
+        if (n >= PARALLEL_THRESHOLD) {
+            outer = outer.parallel(); // runs on the common fork-join pool; anyMatch stops all workers early
+        }
+        return outer.anyMatch(i -> {
+            // The same smallest value was already tried by the first copy
+            if (i > 0 && sorted[i] == sorted[i - 1]) {
+                return false;
+            }
+            long rest = k - sorted[i];
+            // Prune: the remaining pair is bounded by the two smallest / two largest candidates
+            if ((long) sorted[i + 1] + sorted[i + 2] > rest || (long) sorted[n - 2] + sorted[n - 1] < rest) {
+                return false;
+            }
+            return hasPairInSorted(sorted, i + 1, n, rest);
+        });
+    }
+    
+    /**
+     * Checks whether any four elements sum to k
+     * @param nums - array of integers (not modified)
+     * @param k - target sum value
+     * @return boolean - true if four distinct positions sum to k
+     * 
+     * Time Complexity: O(n log n + n^2) expected while the pair sums fit
+     * MAX_PAIR_SUMS, otherwise O(n^3 / cores) worst case
+     * Space Complexity: O(min(n^2, MAX_PAIR_SUMS))
+     */
+    public boolean hasFourSum(int[] nums, long k) {
+        if (nums == null || nums.length < 4) {
+            return false;
+        }
+        
+        int[] a = sortedWithCappedDuplicates(nums, 4);
+        long pairs = (long) a.length * (a.length - 1) / 2;
+        return pairs <= MAX_PAIR_SUMS ? hasFourSumMeetInMiddle(a, k) : hasFourSumTwoPointers(a, k);
+    }
+    
+    /**
+     * Meet in the middle over a sorted array whose pair sums fit in memory
+     */
+    private static boolean hasFourSumMeetInMiddle(int[] a, long k) {
+        int n = a.length;
+        LongHashSet pairSumsBefore = new LongHashSet((int) ((long) n * (n - 1) / 2));
+        
+        for (int i = 0; i < n; i++) {
+            // Probe: pairs (i, j) against pairs that end before i
+            for (int j = i + 1; j < n; j++) {
+                if (pairSumsBefore.contains(k - a[i] - a[j])) {
+                    return true;
+                }
+            }
+            // Store: pairs (h, i), which will only meet probes that start after i
+            for (int h = 0; h < i; h++) {
+                pairSumsBefore.add((long) a[h] + a[i]);
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Two nested outer loops plus two pointers, in O(1) extra space
+     */
+    private static boolean hasFourSumTwoPointers(int[] a, long k) {
+        int n = a.length;
+        IntStream outer = IntStream.range(0, n - 3);
+        if (n >= PARALLEL_THRESHOLD) {
+            outer = outer.parallel();
+        }
+        return outer.anyMatch(i -> {
+            if (i > 0 && a[i] == a[i - 1]) {
+                return false;
+            }
+            // Prune: the smallest and largest quadruples that start with a[i]
+            if ((long) a[i] + a[i + 1] + a[i + 2] + a[i + 3] > k
+                    || (long) a[i] + a[n - 3] + a[n - 2] + a[n - 1] < k) {
+                return false;
+            }
+            for (int j = i + 1; j < n - 2; j++) {
+                if (j > i + 1 && a[j] == a[j - 1]) {
+                    continue;
+                }
+                long rest = k - a[i] - a[j];
+                if ((long) a[j + 1] + a[j + 2] > rest) {
+                    break; // every later j only raises the smallest pair
+                }
+                if ((long) a[n - 2] + a[n - 1] < rest) {
+                    continue; // even the two largest values are too small
+                }
+                if (hasPairInSorted(a, j + 1, n, rest)) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+    
+    /**
+     * Generic c-sum by recursive reduction on a sorted array
+     * @param sorted - ascending array
+     * @param from - first index available to this level
+     * @param count - how many elements are still to be chosen
+     * @param k - remaining target
+     * @return boolean - true if count elements of sorted[from..] sum to k
+     */
+    private boolean hasSumSorted(int[] sorted, int from, int count, long k) {
+        int n = sorted.length;
+        if (count == 2) {
+            return hasPairInSorted(sorted, from, n, k);
+        }
+        for (int i = from; i <= n - count; i++) {
+            if (i > from && sorted[i] == sorted[i - 1]) {
+                continue; // duplicate smallest value
+            }
+            if ((long) sorted[i] * count > k) {
+                break; // every later choice is at least as large
+            }
+            if (sorted[i] + (long) sorted[n - 1] * (count - 1) < k) {
+                continue; // even the largest values cannot reach k
+            }
+            if (hasSumSorted(sorted, i + 1, count - 1, k - sorted[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Two-pointer kernel over an ascending range of a sorted array
+     * @param sorted - array sorted ascending within [from, to)
+     * @param from - first index of the range (inclusive)
+     * @param to - end of the range (exclusive)
+     * @param k - target sum value
+     * @return boolean - true if two distinct positions in the range sum to k
+     * 
+     * Sums are computed in long, so they are exact for every int pair.
+     * 
+     * Time Complexity: O(to - from)
+     * Space Complexity: O(1)
+     */
+    static boolean hasPairInSorted(int[] sorted, int from, int to, long k) {
+        int left = from;
+        int right = to - 1;
+        
+        while (left < right) {
+            long sum = (long) sorted[left] + sorted[right];
+            
+            if (sum == k) {
+                return true;
+            } else if (sum < k) {
+                left++; // Need larger sum
+            } else {
+                right--; // Need smaller sum
+            }
+        }
+        
+        return false;
+    }
+    
+    /**
+     * Sorted copy of nums in which no value appears more than cap times
+     */
+    static int[] sortedWithCappedDuplicates(int[] nums, int cap) {
+        int[] sorted = nums.clone();
+        Arrays.sort(sorted);
+        int kept = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (kept < cap || sorted[kept - cap] != sorted[i]) {
+                sorted[kept++] = sorted[i];
+            }
+        }
+        return kept == sorted.length ? sorted : Arrays.copyOf(sorted, kept);
+    }
+    
+    /**
+     * Test cases and example usage
+     */
+    public static void main(String[] args) {
+        KNumbersSumToK solution = new KNumbersSumToK();
+        
+        // Test case 1: 3-sum from the example
+        int[] nums1 = {10, 15, 3, 7};
+        System.out.println("Test 1: " + solution.hasThreeSum(nums1, 20)); // Expected: true (10 + 3 + 7)
+        
+        // Test case 2: 3-sum with no solution
+        System.out.println("Test 2: " + solution.hasThreeSum(nums1, 11)); // Expected: false
+        
+        // Test case 3: the same value three times
+        int[] nums3 = {2, 2, 2, 2, 2, 9};
+        System.out.println("Test 3: " + solution.hasThreeSum(nums3, 6)); // Expected: true (2 + 2 + 2)
+        
+        // Test case 4: 4-sum from the example
+        int[] nums4 = {1, 2, 3, 4, 5};
+        System.out.println("Test 4: " + solution.hasFourSum(nums4, 14)); // Expected: true (2 + 3 + 4 + 5)
+        
+        // Test case 5: 4-sum may not reuse an index
+        System.out.println("Test 5: " + solution.hasFourSum(new int[]{1, 1, 1}, 4)); // Expected: false
+        
+        // Test case 6: sums beyond the int range
+        int[] nums6 = {Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, 1};
+        System.out.println("Test 6: " + solution.hasThreeSum(nums6, 3L * Integer.MAX_VALUE)); // Expected: true
+        
+        // Test case 7: negative numbers and k = 0
+        int[] nums7 = {-4, -1, -1, 0, 1, 2};
+        System.out.println("Test 7: " + solution.hasThreeSum(nums7, 0)); // Expected: true (-1 + -1 + 2)
+        
+        // Test case 8: general c-sum
+        int[] nums8 = {1, 2, 3, 4, 5, 6, 7, 8};
+        System.out.println("Test 8: " + solution.hasSum(nums8, 5, 15)); // Expected: true (1 + 2 + 3 + 4 + 5)
+        System.out.println("Test 8b: " + solution.hasSum(nums8, 5, 14)); // Expected: false (minimum is 15)
+        
+        System.out.println("\n--- Performance Note ---");
+        System.out.println("✓ 3-Sum: O(n^2) work, outer loop forked across cores");
+        System.out.println("✓ 4-Sum: O(n^2) meet in the middle, pruned two pointers once the pair sums outgrow memory");
+        System.out.println("✓ Nested hasSum calls: O(n^3) - what this replaces");
+    }
+}
@@ -0,0 +1,85 @@
+package com.dailyproblems.util;
+
+/**
+ * Open-addressing hash set of primitive longs with linear probing.
+ * 
+ * Keys live directly in a long[] table whose length is a power of two, so
+ * membership tests never box. Slot value 0 marks an empty slot and the key
+ * 0 itself is tracked by a flag; the table doubles when it becomes half full.
+ */
+public final class LongHashSet {
+    private long[] table;
+    private int mask;
+    private int size;
+    private boolean containsZero;
+    
+    public LongHashSet(int expectedSize) {
+        allocate(PrimitiveHashing.tableSizeFor(expectedSize));
+    }
+    
+    /**
+     * @param key - value to add
+     * @return boolean - true if the key was not already present
+     */
+    public boolean add(long key) {
+        if (key == 0) {
+            boolean added = !containsZero;
+            containsZero = true;
+            return added;
+        }
+        int slot = PrimitiveHashing.mix(key) & mask;
+        while (table[slot] != 0) {
+            if (table[slot] == key) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = key;
+        if (++size > (mask + 1) >>> 1) {
+            rehash(PrimitiveHashing.grownCapacity(table.length));
+        }
+        return true;
+    }
+    
+    /**
+     * @param key - value to look up
+     * @return boolean - true if the key is in the set
+     */
+    public boolean contains(long key) {
+        if (key == 0) {
+            return containsZero;
+        }
+        int slot = PrimitiveHashing.mix(key) & mask;
+        long current;
+        while ((current = table[slot]) != 0) {
+            if (current == key) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+    
+    public int size() {
+        return containsZero ? size + 1 : size;
+    }
+    
+    private void rehash(int newCapacity) {
+        long[] old = table;
+        allocate(newCapacity);
+        for (long key : old) {
+            if (key != 0) {
+                int slot = PrimitiveHashing.mix(key) & mask;
+                while (table[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = key;
+            }
+        }
+    }
+    
+    private void allocate(int capacity) {
+        table = new long[capacity];
+        mask = capacity - 1;
+    }
+}
@@ -0,0 +1,95 @@
+package com.dailyproblems.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * Crossover points between pair-sum strategies, used by the adaptive
+ * front ends TwoNumbersSumToK.hasSumAdaptive and TwoSum.twoSumAdaptive.
+ * 
+ * hasSum and twoSum always use the built-in defaults. To re-tune for a
+ * machine, run "TwoNumbersSumToK --calibrate [file]" to measure it and
+ * write a properties file, then pass load(file) to an adaptive front end.
+ */
+public final class PairSumThresholds {
+    public static final String DEFAULT_CONFIG_FILE = "pair-sum-thresholds.properties";
+    
+    private static final String SMALL_INPUT_KEY = "smallInputThreshold";
+    private static final String BITS_PER_ELEMENT_KEY = "bitmapMaxBitsPerElement";
+    private static final String MAX_RANGE_KEY = "bitmapMaxRange";
+    
+    private final int smallInputThreshold;
+    private final int bitmapMaxBitsPerElement;
+    private final long bitmapMaxRange;
+    
+    /**
+     * @param smallInputThreshold - inputs shorter than this use the quadratic scan
+     * @param bitmapMaxBitsPerElement - bitmap only if range <= n * this
+     * @param bitmapMaxRange - bitmap never larger than this many bits
+     */
+    public PairSumThresholds(int smallInputThreshold, int bitmapMaxBitsPerElement, long bitmapMaxRange) {
+        this.smallInputThreshold = smallInputThreshold;
+        this.bitmapMaxBitsPerElement = bitmapMaxBitsPerElement;
+        this.bitmapMaxRange = bitmapMaxRange;
+    }
+    
+    public static PairSumThresholds defaults() {
+        return new PairSumThresholds(16, 64, 1L << 28);
+    }
+    
+    public int smallInputThreshold() {
+        return smallInputThreshold;
+    }
+    
+    public int bitmapMaxBitsPerElement() {
+        return bitmapMaxBitsPerElement;
+    }
+    
+    public long bitmapMaxRange() {
+        return bitmapMaxRange;
+    }
+    
+    /**
+     * Reads thresholds from a properties file; missing keys keep their defaults
+     * @param file - properties file to read
+     * @return PairSumThresholds - parsed thresholds
+     * @throws IOException if the file cannot be read
+     */
+    public static PairSumThresholds load(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        }
+        PairSumThresholds d = defaults();
+        return new PairSumThresholds(
+                Integer.parseInt(properties.getProperty(SMALL_INPUT_KEY, String.valueOf(d.smallInputThreshold))),
+                Integer.parseInt(properties.getProperty(BITS_PER_ELEMENT_KEY, String.valueOf(d.bitmapMaxBitsPerElement))),
+                Long.parseLong(properties.getProperty(MAX_RANGE_KEY, String.valueOf(d.bitmapMaxRange))));
+    }
+    
+    /**
+     * Writes these thresholds as a properties file
+     * @param file - destination, overwritten if present
+     * @throws IOException if the file cannot be written
+     */
+    public void store(Path file) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty(SMALL_INPUT_KEY, String.valueOf(smallInputThreshold));
+        properties.setProperty(BITS_PER_ELEMENT_KEY, String.valueOf(bitmapMaxBitsPerElement));
+        properties.setProperty(MAX_RANGE_KEY, String.valueOf(bitmapMaxRange));
+        try (OutputStream out = Files.newOutputStream(file)) {
+            properties.store(out, "Pair-sum strategy thresholds, written by TwoNumbersSumToK --calibrate");
+        }
+    }
+    
+    @Override
+    public String toString() {
+        return SMALL_INPUT_KEY + "=" + smallInputThreshold + ", "
+                + BITS_PER_ELEMENT_KEY + "=" + bitmapMaxBitsPerElement + ", "
+                + MAX_RANGE_KEY + "=" + bitmapMaxRange;
+    }
+}
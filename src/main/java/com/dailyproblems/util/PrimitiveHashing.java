@@ -0,0 +1,65 @@
+package com.dailyproblems.util;
+
+/**
+ * Sizing and hash mixing shared by the open-addressing primitive tables
+ * used across the problems.
+ *
+ * Every table has a power-of-two length, so a key's home slot is
+ * mix(key) & (length - 1), and doubles once it becomes half full, which
+ * keeps linear-probe sequences short.
+ */
+public final class PrimitiveHashing {
+    
+    /** Largest power of two that is a legal array length */
+    public static final int MAX_CAPACITY = 1 << 30;
+    
+    private static final int MIN_CAPACITY = 8;
+    
+    private PrimitiveHashing() {
+    }
+    
+    /**
+     * Smallest power of two that keeps expectedSize keys at most half full
+     * @param expectedSize - number of keys the table should hold without growing
+     * @return int - table length, at most MAX_CAPACITY
+     */
+    public static int tableSizeFor(int expectedSize) {
+        long wanted = Math.max(MIN_CAPACITY, 2L * expectedSize);
+        if (wanted > MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+        return Integer.highestOneBit((int) wanted - 1) << 1;
+    }
+    
+    /**
+     * Table length after doubling a table that has become half full
+     * @param capacity - current table length (a power of two)
+     * @return int - twice capacity
+     * @throws IllegalStateException if capacity is already MAX_CAPACITY,
+     *         i.e. the table holds more than 2^29 keys
+     */
+    public static int grownCapacity(int capacity) {
+        if (capacity >= MAX_CAPACITY) {
+            throw new IllegalStateException("Hash table is full: cannot hold more than "
+                    + (MAX_CAPACITY >>> 1) + " distinct keys");
+        }
+        return capacity << 1;
+    }
+    
+    /**
+     * Fibonacci hashing spreads clustered keys (e.g. consecutive ids)
+     * across the table; the high bits are folded down for the mask.
+     */
+    public static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+    
+    /**
+     * 64-bit Fibonacci hashing, folded to 32 bits
+     */
+    public static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}